@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -38,7 +41,12 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
+	private final BundleValidationOperation fPrevious;
 	private State fState;
+	// key is a validated model, value is the bundle description it was validated with
+	private final Map<IPluginModelBase, BundleDescription> fSources = new HashMap<>();
+	// key is a validated model, value is the copy of its bundle added to the state
+	private final Map<IPluginModelBase, BundleDescription> fCopies = new HashMap<>();
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -46,8 +54,31 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public BundleValidationOperation(Set<IPluginModelBase> models, Dictionary<String, String>[] properties) {
+		this(models, properties, null);
+	}
+
+	/**
+	 * Creates an operation that updates the state of a previous validation
+	 * instead of creating a new one. Only the bundles that were added, removed
+	 * or changed since the previous validation are updated in the state, and
+	 * the state is only resolved again if any bundle changed. The state is
+	 * created from scratch if the platform properties differ.
+	 * <p>
+	 * The state of the previous operation is taken over by this operation and
+	 * must no longer be used through the previous operation.
+	 * </p>
+	 *
+	 * @param models
+	 *            the models to validate
+	 * @param properties
+	 *            the platform properties to resolve the models with
+	 * @param previous
+	 *            the previous validation, may be <code>null</code>
+	 */
+	public BundleValidationOperation(Set<IPluginModelBase> models, Dictionary<String, String>[] properties, BundleValidationOperation previous) {
 		fModels = models;
 		fProperties = properties;
+		fPrevious = previous;
 	}
 
 	@Override
@@ -56,11 +87,15 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
+		if (fPrevious != null && fPrevious.fState != null && Arrays.equals(fPrevious.fProperties, fProperties)) {
+			update(fPrevious, subMonitor);
+			return;
+		}
 		fState = FACTORY.createState(true);
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				addBundle(fModel, bundle);
 			}
 			subMonitor.split(1);
 		}
@@ -69,6 +104,45 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		subMonitor.split(1);
 	}
 
+	private void update(BundleValidationOperation previous, SubMonitor subMonitor) {
+		fState = previous.fState;
+		previous.fState = null;
+		boolean changed = false;
+		// remove the bundles that are no longer selected or have changed
+		for (Iterator<Map.Entry<IPluginModelBase, BundleDescription>> iter = previous.fSources.entrySet().iterator(); iter.hasNext();) {
+			Map.Entry<IPluginModelBase, BundleDescription> entry = iter.next();
+			IPluginModelBase model = entry.getKey();
+			if (!fModels.contains(model) || model.getBundleDescription() != entry.getValue()) {
+				fState.removeBundle(previous.fCopies.get(model));
+				changed = true;
+			} else {
+				fSources.put(model, entry.getValue());
+				fCopies.put(model, previous.fCopies.get(model));
+			}
+		}
+		for (IPluginModelBase model : fModels) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle != null && !fSources.containsKey(model)) {
+				addBundle(model, bundle);
+				changed = true;
+			}
+			subMonitor.split(1);
+		}
+		if (changed) {
+			// only the added bundles and the dependents of removed bundles are resolved again
+			fState.resolve(true);
+		}
+		subMonitor.split(1);
+	}
+
+	private void addBundle(IPluginModelBase model, BundleDescription bundle) {
+		BundleDescription copy = FACTORY.createBundleDescription(bundle);
+		if (fState.addBundle(copy)) {
+			fSources.put(model, bundle);
+			fCopies.put(model, copy);
+		}
+	}
+
 	public Map<Object, Object[]> getResolverErrors() {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
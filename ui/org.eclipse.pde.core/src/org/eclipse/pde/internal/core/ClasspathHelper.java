@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2024 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,12 +26,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +42,9 @@ import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -112,10 +117,15 @@ public class ClasspathHelper {
 		// account for cascading workspaces
 		TargetWeaver.weaveRunningPlatformDevProperties(modelEntries, launchedPlugins);
 
+		// the entries of the workspace bundles are independent of each other
+		Map<IPluginModelBase, String> workspaceEntries = new ConcurrentHashMap<>();
+		launchedPlugins.parallelStream().filter(m -> m.getUnderlyingResource() != null).forEach(
+				m -> workspaceEntries.put(m, formatEntry(getDevPaths(m, checkExcluded, launchedPlugins))));
+
 		for (List<IPluginModelBase> models : bundlesMap.values()) {
 			for (IPluginModelBase model : models) {
 				if (model.getUnderlyingResource() != null) {
-					String entry = formatEntry(getDevPaths(model, checkExcluded, launchedPlugins));
+					String entry = workspaceEntries.get(model);
 					if (!entry.isEmpty()) {
 						// overwrite entry, if plug-in from primary Eclipse is
 						// also imported into workspace of secondary eclipse
@@ -171,6 +181,28 @@ public class ClasspathHelper {
 	// creates a map whose key is a Path to the source directory/jar and the value is a Path output directory or jar.
 	private static Map<IPath, List<IPath>> getClasspathMap(IProject project, boolean checkExcluded,
 			boolean absolutePaths) throws JavaModelException {
+		Map<IPath, List<IPath>> map = ProjectCache.get(project).getClasspathMap(checkExcluded, absolutePaths);
+
+		// Add additional entries from contributed bundle classpath resolvers
+		IBundleClasspathResolver[] resolvers = PDECore.getDefault().getClasspathContainerResolverManager().getBundleClasspathResolvers(project);
+		if (resolvers.length == 0) {
+			return map;
+		}
+		Map<IPath, List<IPath>> resolvedMap = new LinkedHashMap<>();
+		map.forEach((source, outputs) -> resolvedMap.put(source, new ArrayList<>(outputs)));
+		IJavaProject jProject = JavaCore.create(project);
+		for (IBundleClasspathResolver resolver : resolvers) {
+			Map<IPath, Collection<IPath>> resolved = resolver.getAdditionalClasspathEntries(jProject);
+			resolved.forEach((ceSource, value) -> { // merge into map
+				List<IPath> mapValue = resolvedMap.computeIfAbsent(ceSource, s -> new ArrayList<>());
+				mapValue.addAll(value);
+			});
+		}
+		return resolvedMap;
+	}
+
+	private static Map<IPath, List<IPath>> computeClasspathMap(IProject project, boolean checkExcluded,
+			boolean absolutePaths) throws JavaModelException {
 		Set<IPath> excluded = getFoldersToExclude(project, checkExcluded);
 		IJavaProject jProject = JavaCore.create(project);
 		Map<IPath, List<IPath>> map = new LinkedHashMap<>();
@@ -213,18 +245,8 @@ public class ClasspathHelper {
 				}
 			}
 		}
-
-		// Add additional entries from contributed bundle classpath resolvers
-		IBundleClasspathResolver[] resolvers = PDECore.getDefault().getClasspathContainerResolverManager().getBundleClasspathResolvers(project);
-		for (IBundleClasspathResolver resolver : resolvers) {
-			Map<IPath, Collection<IPath>> resolved = resolver.getAdditionalClasspathEntries(jProject);
-			resolved.forEach((ceSource, value) -> { // merge into map
-				List<IPath> mapValue = map.computeIfAbsent(ceSource, s -> new ArrayList<>());
-				mapValue.addAll(value);
-			});
-		}
-
-		return map;
+		map.replaceAll((source, outputs) -> List.copyOf(outputs));
+		return Collections.unmodifiableMap(map);
 	}
 
 	// find the corresponding paths for a library name.  Searches for source folders first, but includes any libraries on the buildpath with the same name
@@ -345,6 +367,10 @@ public class ClasspathHelper {
 	}
 
 	private static IBuild getBuild(IProject project) {
+		return ProjectCache.get(project).getBuild();
+	}
+
+	private static IBuild computeBuild(IProject project) {
 		IFile file = PDEProject.getBuildProperties(project);
 		IPath location = file.getLocation();
 		boolean existsOnFileSystem = location != null && location.toFile().exists();
@@ -393,4 +419,159 @@ public class ClasspathHelper {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Discards the cached classpath data of all projects and stops tracking
+	 * their changes.
+	 */
+	static void shutdown() {
+		ProjectCache.stopListening();
+	}
+
+	/**
+	 * The classpath maps and build model of a workspace project, as read from
+	 * its <code>.classpath</code>, <code>build.properties</code> and PDE
+	 * project preferences. The data is discarded when one of these files, the
+	 * manifest or the folder structure of the project changes, or when an
+	 * archive or a library of the raw classpath is added or removed, as the
+	 * classpath maps omit libraries that do not exist.
+	 */
+	private static final class ProjectCache {
+
+		private static final Map<IProject, ProjectCache> fCaches = new ConcurrentHashMap<>();
+		private static IResourceChangeListener fListener;
+
+		private static final IPath CLASSPATH_FILE = IPath.fromOSString(".classpath"); //$NON-NLS-1$
+		private static final IPath PREFERENCES_FILE = IPath.fromOSString(".settings/" + PDECore.PLUGIN_ID + ".prefs"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		private final IProject fProject;
+		// index is (checkExcluded ? 1 : 0) + (absolutePaths ? 2 : 0)
+		@SuppressWarnings("unchecked")
+		private final Map<IPath, List<IPath>>[] fClasspathMaps = new Map[4];
+		private volatile IBuild fBuild;
+		private volatile boolean fBuildRead;
+
+		private ProjectCache(IProject project) {
+			fProject = project;
+		}
+
+		static ProjectCache get(IProject project) {
+			startListening();
+			return fCaches.computeIfAbsent(project, ProjectCache::new);
+		}
+
+		Map<IPath, List<IPath>> getClasspathMap(boolean checkExcluded, boolean absolutePaths)
+				throws JavaModelException {
+			int index = (checkExcluded ? 1 : 0) + (absolutePaths ? 2 : 0);
+			synchronized (fClasspathMaps) {
+				Map<IPath, List<IPath>> map = fClasspathMaps[index];
+				if (map == null) {
+					map = computeClasspathMap(fProject, checkExcluded, absolutePaths);
+					fClasspathMaps[index] = map;
+				}
+				return map;
+			}
+		}
+
+		IBuild getBuild() {
+			if (!fBuildRead) {
+				synchronized (this) {
+					if (!fBuildRead) {
+						fBuild = computeBuild(fProject);
+						fBuildRead = true;
+					}
+				}
+			}
+			return fBuild;
+		}
+
+		private static synchronized void startListening() {
+			if (fListener != null) {
+				return;
+			}
+			fListener = event -> {
+				IResourceDelta delta = event.getDelta();
+				if (delta == null) {
+					return;
+				}
+				for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+					IProject project = (IProject) projectDelta.getResource();
+					if (fCaches.containsKey(project) && isAffected(project, projectDelta)) {
+						fCaches.remove(project);
+					}
+				}
+			};
+			PDECore.getWorkspace().addResourceChangeListener(fListener, IResourceChangeEvent.POST_CHANGE);
+		}
+
+		static synchronized void stopListening() {
+			if (fListener != null) {
+				PDECore.getWorkspace().removeResourceChangeListener(fListener);
+				fListener = null;
+			}
+			fCaches.clear();
+		}
+
+		private static boolean isAffected(IProject project, IResourceDelta projectDelta) {
+			if (projectDelta.getKind() != IResourceDelta.CHANGED
+					|| (projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+				return true;
+			}
+			if (!project.isOpen()) {
+				return true;
+			}
+			Set<IPath> files = Set.of(CLASSPATH_FILE, PREFERENCES_FILE,
+					PDEProject.getBuildProperties(project).getProjectRelativePath(),
+					PDEProject.getManifest(project).getProjectRelativePath());
+			boolean[] affected = new boolean[1];
+			@SuppressWarnings("unchecked")
+			Set<IPath>[] libraries = new Set[1];
+			try {
+				projectDelta.accept(delta -> {
+					IResource resource = delta.getResource();
+					if (resource.getType() == IResource.FILE) {
+						if (files.contains(resource.getProjectRelativePath())) {
+							affected[0] = true;
+						} else if (delta.getKind() != IResourceDelta.CHANGED) {
+							// the classpath maps omit libraries that do not exist
+							if (isArchive(resource)) {
+								affected[0] = true;
+							} else {
+								if (libraries[0] == null) {
+									libraries[0] = getLibraryPaths(project);
+								}
+								affected[0] = libraries[0].contains(resource.getFullPath());
+							}
+						}
+					} else if (resource.getType() == IResource.FOLDER && delta.getKind() != IResourceDelta.CHANGED) {
+						// output and library folders may have been created or deleted
+						affected[0] = true;
+					}
+					return !affected[0];
+				});
+			} catch (CoreException e) {
+				return true;
+			}
+			return affected[0];
+		}
+
+		private static boolean isArchive(IResource file) {
+			String extension = file.getFileExtension();
+			return "jar".equalsIgnoreCase(extension) || "zip".equalsIgnoreCase(extension); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		private static Set<IPath> getLibraryPaths(IProject project) {
+			Set<IPath> libraries = new HashSet<>();
+			try {
+				for (IClasspathEntry entry : JavaCore.create(project).getRawClasspath()) {
+					if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+						libraries.add(entry.getPath());
+					}
+				}
+			} catch (JavaModelException e) {
+				// not a Java project, it has no classpath maps to discard
+			}
+			return libraries;
+		}
+	}
+
 }
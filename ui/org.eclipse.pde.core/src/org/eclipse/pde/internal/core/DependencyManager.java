@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,16 +18,22 @@ package org.eclipse.pde.internal.core;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
@@ -170,6 +176,11 @@ public class DependencyManager {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
+		ClosureCache cache = ClosureCache.getCache(bundles);
+		if (cache != null) {
+			return cache.findClosure(bundles, includeOptional, includeAllFragments, includeNonTestFragments);
+		}
+
 		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
 		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
 
@@ -196,23 +207,56 @@ public class DependencyManager {
 				}
 			}
 
-			List<BundleWire> requiredWires = wiring.getRequiredWires(null);
-			for (BundleWire wire : requiredWires) {
-				BundleRevision declaringBundle = wire.getRequirement().getRevision();
-				if (declaringBundle != bundle && !closure.contains(declaringBundle)) {
-					// Requirement is declared by an attached fragment, which is
-					// not included into the closure.
+			forEachRequiredBundle(bundle, wiring, closure::contains, includeOptional,
+					requiredBundle -> addNewRequiredBundle(requiredBundle, closure, pending));
+		}
+		return closure;
+	}
+
+	/**
+	 * Passes the providers of the requirements of the given bundle to the
+	 * consumer. Requirements declared by attached fragments are only followed
+	 * if the fragment is part of the closure. As the requirements of a fragment
+	 * are wired on its hosts, which may have been traversed before the fragment
+	 * was added to the closure, they are also followed when the fragment itself
+	 * is traversed. This makes the closure independent of the order in which
+	 * the bundles are traversed.
+	 */
+	private static void forEachRequiredBundle(BundleDescription bundle, BundleWiring wiring,
+			Predicate<BundleRevision> inClosure, boolean includeOptional, Consumer<BundleDescription> consumer) {
+		for (BundleWire wire : wiring.getRequiredWires(null)) {
+			BundleRevision declaringBundle = wire.getRequirement().getRevision();
+			if (declaringBundle != bundle && !inClosure.test(declaringBundle)) {
+				// Requirement is declared by an attached fragment, which is
+				// not included into the closure.
+				continue;
+			}
+			addProvider(wire, includeOptional, consumer);
+		}
+		HostSpecification host = bundle.getHost();
+		if (host != null && host.getHosts() != null) {
+			for (BundleDescription hostBundle : host.getHosts()) {
+				BundleWiring hostWiring = hostBundle.getWiring();
+				if (hostWiring == null || !hostWiring.isInUse()) {
 					continue;
 				}
-				BundleRevision provider = wire.getCapability().getRevision();
-				// Use revision of required capability to support the case if
-				// fragments contribute new packages to their host's API.
-				if (provider instanceof BundleDescription requiredBundle && (includeOptional || !isOptional(wire.getRequirement()))) {
-					addNewRequiredBundle(requiredBundle, closure, pending);
+				for (BundleWire wire : hostWiring.getRequiredWires(null)) {
+					if (wire.getRequirement().getRevision() == bundle) {
+						addProvider(wire, includeOptional, consumer);
+					}
 				}
 			}
 		}
-		return closure;
+	}
+
+	private static void addProvider(BundleWire wire, boolean includeOptional, Consumer<BundleDescription> consumer) {
+		BundleRevision provider = wire.getCapability().getRevision();
+		// Use revision of required capability to support the case if
+		// fragments contribute new packages to their host's API.
+		if (provider instanceof BundleDescription requiredBundle
+				&& (includeOptional || !isOptional(wire.getRequirement()))) {
+			consumer.accept(requiredBundle);
+		}
 	}
 
 	private static void addNewRequiredBundle(BundleDescription bundle, Set<BundleDescription> requiredBundles,
@@ -226,6 +270,11 @@ public class DependencyManager {
 		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
 	}
 
+	private static boolean isWorkspaceBundle(Resource f) {
+		IPluginModelBase pluginModel = PluginRegistry.findModel(f);
+		return pluginModel != null && pluginModel.getUnderlyingResource() != null;
+	}
+
 	private static boolean isTestWorkspaceProject(Resource f) {
 		// Be defensive when declaring a fragment as 'test'-fragment
 		IPluginModelBase pluginModel = PluginRegistry.findModel(f);
@@ -275,4 +324,152 @@ public class DependencyManager {
 		}
 		return bundles;
 	}
+
+	/**
+	 * Caches the requirement closures of single bundles for one version of the
+	 * target platform's {@link State}, per combination of {@link Options}. The closure of a set of
+	 * bundles is the union of the closures of its members, so closures of large
+	 * or overlapping sets of bundles are composed from the cached closures
+	 * instead of traversing the wires again. Closures are stored as bit sets of
+	 * bundle ids, which are small and dense in PDE's states. Merging the closure
+	 * of a host is safe even if its fragments are added later, because the
+	 * requirements of a fragment are followed when the fragment is traversed.
+	 * <p>
+	 * The cache is dropped when the state is modified, re-resolved or replaced.
+	 * Closures in other states, e.g. the ones created for launch validation or
+	 * export, are computed without caching, so they neither displace the
+	 * cache of the target platform nor keep their state reachable.
+	 * Closures that depend on whether a workspace fragment is a test fragment
+	 * are not cached, because that depends on the project's classpath and not
+	 * on the state.
+	 * </p>
+	 */
+	private static final class ClosureCache {
+
+		private static final StateCache<ClosureCache> fCaches = new StateCache<>(ClosureCache::new);
+
+		private final State fState;
+		/** closures per bundle id, indexed by the options key */
+		private final List<Map<Integer, BitSet>> fClosures;
+
+		private ClosureCache(State state) {
+			fState = state;
+			fClosures = List.of(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+					new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+		}
+
+		/**
+		 * Returns the cache for the state containing the given bundles or
+		 * <code>null</code> if the bundles are not all part of the target
+		 * platform's state.
+		 */
+		static ClosureCache getCache(Collection<BundleDescription> bundles) {
+			State state = null;
+			for (BundleDescription bundle : bundles) {
+				if (bundle == null) {
+					continue;
+				}
+				State containingState = bundle.getContainingState();
+				if (containingState == null || (state != null && containingState != state)
+						|| bundle.getBundleId() < 0 || bundle.getBundleId() > Integer.MAX_VALUE
+						|| containingState.getBundle(bundle.getBundleId()) != bundle) {
+					return null;
+				}
+				state = containingState;
+			}
+			if (state == null || !PDECore.getDefault().getModelManager().isInitialized()
+					|| state != TargetPlatformHelper.getState()) {
+				return null;
+			}
+			return fCaches.get(state);
+		}
+
+		Set<BundleDescription> findClosure(Collection<BundleDescription> bundles, boolean includeOptional,
+				boolean includeAllFragments, boolean includeNonTestFragments) {
+			int key = (includeOptional ? 1 : 0) + (includeAllFragments ? 2 : 0) + (includeNonTestFragments ? 4 : 0);
+			Map<Integer, BitSet> closures = fClosures.get(key);
+			BitSet closure = new BitSet();
+			for (BundleDescription bundle : bundles) {
+				// the closure of a bundle that is already included is a subset
+				if (bundle != null && !closure.get((int) bundle.getBundleId())) {
+					closure.or(getClosure(bundle, closures, includeOptional, includeAllFragments,
+							includeNonTestFragments));
+				}
+			}
+			Set<BundleDescription> result = new HashSet<>(closure.cardinality() * 4 / 3 + 1);
+			closure.stream().forEach(id -> {
+				BundleDescription bundle = fState.getBundle(id);
+				if (bundle != null) {
+					result.add(bundle);
+				}
+			});
+			return result;
+		}
+
+		private BitSet getClosure(BundleDescription root, Map<Integer, BitSet> closures, boolean includeOptional,
+				boolean includeAllFragments, boolean includeNonTestFragments) {
+			BitSet known = closures.get((int) root.getBundleId());
+			if (known != null) {
+				return known;
+			}
+			BitSet closure = new BitSet();
+			boolean cacheable = true;
+			Queue<BundleDescription> pending = new ArrayDeque<>();
+			addNewRequiredBundle(root, closure, pending, null);
+
+			// same traversal as findRequirementsClosure, but reusing the
+			// closures of bundles that are already known
+			while (!pending.isEmpty()) {
+				BundleDescription bundle = pending.remove();
+
+				BundleWiring wiring = bundle.getWiring();
+				if (wiring == null || !wiring.isInUse()) {
+					continue;
+				}
+
+				if (includeAllFragments || includeNonTestFragments) {
+					for (BundleDescription fragment : bundle.getFragments()) {
+						if (includeNonTestFragments && isWorkspaceBundle(fragment)) {
+							cacheable = false;
+						}
+						if (includeAllFragments || !isTestWorkspaceProject(fragment)) {
+							addNewRequiredBundle(fragment, closure, pending, closures);
+						}
+					}
+				}
+
+				forEachRequiredBundle(bundle, wiring,
+						declaring -> declaring instanceof BundleDescription desc && desc.getBundleId() >= 0
+								&& desc.getBundleId() <= Integer.MAX_VALUE && closure.get((int) desc.getBundleId()),
+						includeOptional, requiredBundle -> addNewRequiredBundle(requiredBundle, closure, pending, closures));
+			}
+			if (cacheable) {
+				BitSet existing = closures.putIfAbsent((int) root.getBundleId(), closure);
+				if (existing != null) {
+					return existing;
+				}
+			}
+			return closure;
+		}
+
+		private void addNewRequiredBundle(BundleDescription bundle, BitSet closure, Queue<BundleDescription> pending,
+				Map<Integer, BitSet> closures) {
+			if (bundle == null || !bundle.isResolved() || bundle.isRemovalPending()
+					|| bundle.getBundleId() < 0 || bundle.getBundleId() > Integer.MAX_VALUE
+					|| fState.getBundle(bundle.getBundleId()) != bundle) {
+				return;
+			}
+			int id = (int) bundle.getBundleId();
+			if (closure.get(id)) {
+				return;
+			}
+			BitSet known = closures != null ? closures.get(id) : null;
+			if (known != null) {
+				closure.or(known);
+			} else {
+				closure.set(id);
+				pending.add(bundle);
+			}
+		}
+	}
 }
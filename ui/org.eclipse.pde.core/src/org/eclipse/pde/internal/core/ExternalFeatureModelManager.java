@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,10 +21,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -49,6 +53,31 @@ import org.eclipse.pde.internal.core.target.Messages;
  */
 public class ExternalFeatureModelManager {
 
+	/**
+	 * Feature models of the features of the workspace target, by the absolute
+	 * location of their feature XML file. These are the models held by the
+	 * {@link FeatureModelManager}, so they are only handed out by
+	 * {@link #getFreshFeatureModel(TargetFeature)}.
+	 */
+	private static final Map<File, ParsedFeature> fParsedFeatures = new ConcurrentHashMap<>();
+
+	/**
+	 * A parsed feature model and the time stamps of the files it was read
+	 * from. The properties time stamp is 0 if the feature has no
+	 * <code>feature.properties</code> file.
+	 */
+	private record ParsedFeature(IFeatureModel model, long lastModified, long length, long propertiesLastModified) {
+
+		boolean isUpToDate(File manifest) {
+			return lastModified == manifest.lastModified() && length == manifest.length()
+					&& propertiesLastModified == getPropertiesFile(manifest).lastModified();
+		}
+
+		private static File getPropertiesFile(File manifest) {
+			return new File(manifest.getParentFile(), "feature.properties"); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Creates a feature model for the feature based on the given feature XML
 	 * file.
@@ -71,6 +100,30 @@ public class ExternalFeatureModelManager {
 		}
 	}
 
+	/**
+	 * Returns the model of the workspace target feature based on the given
+	 * feature XML file. As long as the file and the
+	 * <code>feature.properties</code> next to it are not modified, the model
+	 * created before for the same file is returned.
+	 */
+	private static IFeatureModel getSharedModel(File manifest) throws CoreException {
+		File file = manifest.getAbsoluteFile();
+		ParsedFeature parsed = fParsedFeatures.get(file);
+		if (parsed != null && parsed.isUpToDate(file)) {
+			return parsed.model();
+		}
+		// take the time stamps before reading, so a concurrent modification
+		// causes the file to be read again
+		long lastModified = file.lastModified();
+		long length = file.length();
+		long propertiesLastModified = ParsedFeature.getPropertiesFile(file).lastModified();
+		IFeatureModel model = createModel(manifest);
+		if (model.isLoaded()) {
+			fParsedFeatures.put(file, new ParsedFeature(model, lastModified, length, propertiesLastModified));
+		}
+		return model;
+	}
+
 	private final ListenerList<IModelProviderListener> fListeners = new ListenerList<>();
 
 	private IFeatureModel[] fModels;
@@ -142,10 +195,21 @@ public class ExternalFeatureModelManager {
 				}
 			}
 		}
+		// forget the features of previous targets
+		Set<IFeatureModel> models = new HashSet<>(result);
+		fParsedFeatures.values().removeIf(parsed -> !models.contains(parsed.model()));
 		return result.toArray(new IFeatureModel[result.size()]);
 	}
 
-	private void notifyListeners(IFeatureModel[] oldModels, IFeatureModel[] newFeatureModels) {
+	private void notifyListeners(IFeatureModel[] oldModels, IFeatureModel[] newModels) {
+		// models of unchanged feature files are reused and need no event
+		Set<IFeatureModel> retained = new HashSet<>(Arrays.asList(oldModels));
+		retained.retainAll(Arrays.asList(newModels));
+		if (!retained.isEmpty()) {
+			oldModels = Arrays.stream(oldModels).filter(m -> !retained.contains(m)).toArray(IFeatureModel[]::new);
+		}
+		IFeatureModel[] newFeatureModels = retained.isEmpty() ? newModels
+				: Arrays.stream(newModels).filter(m -> !retained.contains(m)).toArray(IFeatureModel[]::new);
 		if (oldModels.length > 0 || newFeatureModels.length > 0) {
 			int type = 0;
 			if (oldModels.length > 0) {
@@ -182,7 +246,7 @@ public class ExternalFeatureModelManager {
 			File manifest = new File(location, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
 			if (manifest.exists() && manifest.isFile()) {
 				try {
-					return createModel(manifest);
+					return getSharedModel(manifest);
 				} catch (CoreException e) {
 					PDECore.log(e);
 				}
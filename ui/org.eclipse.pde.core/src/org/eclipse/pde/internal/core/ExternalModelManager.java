@@ -131,19 +131,22 @@ class ExternalLibraryCache {
 			if (!".".equals(libName)) { //$NON-NLS-1$
 				libName = ClasspathUtilCore.expandLibraryName(libName);
 				File fDestFile = new File(fCacheDir, libName);
-				// assume that an existing file is always valid
-				if (!fDestFile.isFile()) {
-					try {
-						File extractedLib = extractJar(fJarFile, libName, fDestFile);
-						if (extractedLib != null) {
-							files.add(extractedLib);
+				// classpath containers may be computed concurrently
+				synchronized (this) {
+					// assume that an existing file is always valid
+					if (!fDestFile.isFile()) {
+						try {
+							File extractedLib = extractJar(fJarFile, libName, fDestFile);
+							if (extractedLib != null) {
+								files.add(extractedLib);
+							}
+						} catch (IOException ie) {
+							// do not add file, but log error
+							PDECore.logException(ie, "Could not extract library from jarred bundle " + desc.getSymbolicName()); //$NON-NLS-1$
 						}
-					} catch (IOException ie) {
-						// do not add file, but log error
-						PDECore.logException(ie, "Could not extract library from jarred bundle " + desc.getSymbolicName()); //$NON-NLS-1$
+					} else {
+						files.add(fDestFile);
 					}
-				} else {
-					files.add(fDestFile);
 				}
 			}
 		}
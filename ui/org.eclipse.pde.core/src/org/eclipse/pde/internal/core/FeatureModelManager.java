@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -238,6 +238,18 @@ public class FeatureModelManager {
 	}
 
 	private synchronized IFeatureModelDelta processEvent(IModelProviderEvent e) {
+		// publish the modified tables once, not after every modification
+		fActiveModels.beginBatch();
+		fInactiveModels.beginBatch();
+		try {
+			return processEventInBatch(e);
+		} finally {
+			fInactiveModels.endBatch();
+			fActiveModels.endBatch();
+		}
+	}
+
+	private IFeatureModelDelta processEventInBatch(IModelProviderEvent e) {
 		FeatureModelDelta delta = new FeatureModelDelta();
 		/*
 		 * Set of Idvers for which there might be necessary to move a model
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,12 +29,39 @@ import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
  * retrieval. Given id or version may have more than one corresponding model. A
  * model has only one id and version that can be null. When models changes, its
  * Idver stays unchanged until the models reinserted.
+ * <p>
+ * Modifications are synchronized. Queries are answered from an immutable
+ * snapshot of the indexes, which they read without locking while the table is
+ * unchanged. The first query after a modification takes a new snapshot under
+ * the lock of the table, so it waits for a modification in progress.
+ * </p>
+ * <p>
+ * Several modifications can be made in a batch, see {@link #beginBatch()}.
+ * The thread making the batch queries the current indexes, other threads
+ * query the snapshot taken before the batch. A new snapshot is taken once, at
+ * the end of the batch.
+ * </p>
  */
 class FeatureTable {
 
 	static record Idver(String id, String version) {
 	}
 
+	private static record Snapshot(Map<IFeatureModel, Idver> model2idver, Map<Idver, List<IFeatureModel>> idver2models,
+			Map<String, List<Idver>> id2idvers) {
+	}
+
+	/**
+	 * The current snapshot or <code>null</code> if the table was modified
+	 * since it was taken
+	 */
+	private volatile Snapshot fSnapshot;
+
+	/**
+	 * The thread modifying the table in a batch or <code>null</code>
+	 */
+	private volatile Thread fBatchOwner;
+
 	/**
 	 * Map of IFeatureModel to Idver
 	 */
@@ -49,34 +77,82 @@ class FeatureTable {
 	 */
 	private final Map<String, List<Idver>> fId2idvers = new HashMap<>();
 
-	public synchronized Idver get(IFeatureModel model) {
-		return fModel2idver.get(model);
+	private Snapshot getSnapshot() {
+		if (fBatchOwner == Thread.currentThread()) {
+			// the current indexes, only modified by this thread until the end of the batch
+			return new Snapshot(fModel2idver, fIdver2models, fId2idvers);
+		}
+		Snapshot snapshot = fSnapshot;
+		if (snapshot != null) {
+			return snapshot;
+		}
+		synchronized (this) {
+			if (fSnapshot == null) {
+				fSnapshot = takeSnapshot();
+			}
+			return fSnapshot;
+		}
+	}
+
+	private Snapshot takeSnapshot() {
+		Map<Idver, List<IFeatureModel>> idver2models = new HashMap<>();
+		fIdver2models.forEach((idver, models) -> idver2models.put(idver, List.copyOf(models)));
+		Map<String, List<Idver>> id2idvers = new HashMap<>();
+		fId2idvers.forEach((id, idvers) -> id2idvers.put(id, List.copyOf(idvers)));
+		// the maps may contain null keys
+		return new Snapshot(Collections.unmodifiableMap(new HashMap<>(fModel2idver)),
+				Collections.unmodifiableMap(idver2models), Collections.unmodifiableMap(id2idvers));
+	}
+
+	/**
+	 * Starts a batch of modifications made by the current thread. Until
+	 * {@link #endBatch()} is called, modifications do not discard the
+	 * snapshot, so other threads keep querying the state before the batch.
+	 * Only one thread may modify the table during a batch.
+	 */
+	public synchronized void beginBatch() {
+		if (fSnapshot == null) {
+			fSnapshot = takeSnapshot();
+		}
+		fBatchOwner = Thread.currentThread();
+	}
+
+	/**
+	 * Ends the batch started by {@link #beginBatch()} and publishes a snapshot
+	 * of the modified table.
+	 */
+	public synchronized void endBatch() {
+		fBatchOwner = null;
+		fSnapshot = takeSnapshot();
+	}
+
+	public Idver get(IFeatureModel model) {
+		return getSnapshot().model2idver().get(model);
 	}
 
 	public List<IFeatureModel> get(String id, String version) {
 		return get(new Idver(id, version));
 	}
 
-	public synchronized List<IFeatureModel> get(Idver idver) {
-		List<IFeatureModel> models = fIdver2models.get(idver);
-		if (models == null) {
-			return List.of();
-		}
-		return List.copyOf(models); // decouple returned list from this table
+	public List<IFeatureModel> get(Idver idver) {
+		// decouple the list from this table, the lists of a snapshot are not copied
+		return List.copyOf(getSnapshot().idver2models().getOrDefault(idver, List.of()));
 	}
 
-	public synchronized List<IFeatureModel> getAllValidFeatures(String id) {
-		List<Idver> idvers = fId2idvers.get(id);
+	public List<IFeatureModel> getAllValidFeatures(String id) {
+		Snapshot snapshot = getSnapshot();
+		List<Idver> idvers = snapshot.id2idvers().get(id);
 		if (idvers == null) {
 			return List.of();
 		}
-		return idvers.stream().map(fIdver2models::get) //
+		return idvers.stream().map(snapshot.idver2models()::get) //
 				.filter(Objects::nonNull).flatMap(List::stream) //
 				.filter(IFeatureModel::isValid).toList();
 	}
 
-	public synchronized IFeatureModel[] getAllValidFeatures() {
-		return fModel2idver.keySet().stream().filter(IFeatureModel::isValid).toArray(IFeatureModel[]::new);
+	public IFeatureModel[] getAllValidFeatures() {
+		return getSnapshot().model2idver().keySet().stream().filter(IFeatureModel::isValid)
+				.toArray(IFeatureModel[]::new);
 	}
 
 	/**
@@ -85,9 +161,16 @@ class FeatureTable {
 	 * @return Idver if model existed and was removed, null otherwise
 	 */
 	public synchronized Idver remove(IFeatureModel model) {
+		discardSnapshot();
 		return removeImpl(model);
 	}
 
+	private void discardSnapshot() {
+		if (fBatchOwner == null) {
+			fSnapshot = null;
+		}
+	}
+
 	private Idver removeImpl(IFeatureModel model) {
 		Idver idver = fModel2idver.remove(model);
 		if (idver == null) {
@@ -117,6 +200,7 @@ class FeatureTable {
 	 * @return Idver used during insertion
 	 */
 	public synchronized Idver add(IFeatureModel model) {
+		discardSnapshot();
 		removeImpl(model);
 
 		IFeature feature = model.getFeature();
@@ -136,9 +220,9 @@ class FeatureTable {
 	}
 
 	@Override
-	public synchronized String toString() {
+	public String toString() {
 		StringJoiner joiner = new StringJoiner(", ", "[", "]"); //$NON-NLS-1$ //$NON-NLS-2$//$NON-NLS-3$
-		for (IFeatureModel model : fModel2idver.keySet()) {
+		for (IFeatureModel model : getSnapshot().model2idver().keySet()) {
 			IFeature feature = model.getFeature();
 			String str = get(model) + "@" + feature.getId() + "_" + feature.getVersion(); //$NON-NLS-1$ //$NON-NLS-2$
 			joiner.add(str);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -358,6 +358,12 @@ public interface ICoreConstants {
 	 * arguments when creating a new launch configuration
 	 */
 	String ADD_SWT_NON_DISPOSAL_REPORTING = "Preferences.MainPage.addSwtNonDisposalReporting ";//$NON-NLS-1$
+	/**
+	 * Boolean preference whether the schemas of the extension points used by
+	 * workspace plug-ins are loaded in the background after the target platform
+	 * has been loaded
+	 */
+	String PRELOAD_EXTENSION_POINT_SCHEMAS = "preload_extension_point_schemas"; //$NON-NLS-1$
 
 	/**
 	 * Explicit preference value for {@link #WORKSPACE_TARGET_HANDLE} when the user chooses no
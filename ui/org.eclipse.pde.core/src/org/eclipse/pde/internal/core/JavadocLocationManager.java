@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,9 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
@@ -30,13 +30,43 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Finds the Javadoc locations of plug-ins, either inside the plug-in or
+ * declared for it by an extension of the target platform.
+ * <p>
+ * The locations of external plug-ins are looked up once and kept, including
+ * the plug-ins without Javadoc, until the manager is reset when a target is
+ * loaded. The extension-declared locations are indexed by plug-in id.
+ * </p>
+ */
 public class JavadocLocationManager {
 
 	public static final String JAVADOC_ID = "org.eclipse.pde.core.javadoc"; //$NON-NLS-1$
 
-	private HashMap<String, Set<String>> fLocations;
+	/**
+	 * Extension-declared Javadoc locations by plug-in id
+	 */
+	private volatile Map<String, String> fLocations;
+
+	/**
+	 * Javadoc locations of external plug-ins by install location
+	 */
+	private final Map<String, Optional<String>> fExternalLocations = new ConcurrentHashMap<>();
 
 	public String getJavadocLocation(IPluginModelBase model) {
+		String installLocation = model.getInstallLocation();
+		if (installLocation == null || model.getUnderlyingResource() != null) {
+			return findJavadocLocation(model);
+		}
+		Optional<String> location = fExternalLocations.get(installLocation);
+		if (location == null) {
+			location = Optional.ofNullable(findJavadocLocation(model));
+			fExternalLocations.put(installLocation, location);
+		}
+		return location.orElse(null);
+	}
+
+	private String findJavadocLocation(IPluginModelBase model) {
 		try {
 			File file = new File(model.getInstallLocation());
 			if (file.isDirectory()) {
@@ -54,32 +84,34 @@ public class JavadocLocationManager {
 		}
 	}
 
-	private synchronized String getEntry(IPluginModelBase model) {
-		initialize();
+	private String getEntry(IPluginModelBase model) {
 		BundleDescription desc = model.getBundleDescription();
 		if (desc != null) {
 			HostSpecification host = desc.getHost();
 			String id = host == null ? desc.getSymbolicName() : host.getName();
 			if (id != null) {
-				Iterator<String> iter = fLocations.keySet().iterator();
-				while (iter.hasNext()) {
-					String location = iter.next();
-					Set<String> set = fLocations.get(location);
-					if (set.contains(id)) {
-						return location;
-					}
-				}
+				return getLocations().get(id);
 			}
 		}
 		return null;
 	}
 
-	private synchronized void initialize() {
-		if (fLocations != null) {
-			return;
+	private Map<String, String> getLocations() {
+		Map<String, String> locations = fLocations;
+		if (locations == null) {
+			synchronized (this) {
+				locations = fLocations;
+				if (locations == null) {
+					locations = new HashMap<>();
+					initialize(locations);
+					fLocations = locations;
+				}
+			}
 		}
-		fLocations = new HashMap<>();
+		return locations;
+	}
 
+	private void initialize(Map<String, String> locations) {
 		IExtension[] extensions = PDECore.getDefault().getExtensionsRegistry().findExtensions(JAVADOC_ID, false);
 		for (IExtension extension : extensions) {
 			IPluginModelBase base = PluginRegistry.findModel(extension.getContributor().getName());
@@ -87,11 +119,11 @@ public class JavadocLocationManager {
 			if (base == null || base.getUnderlyingResource() != null) {
 				continue;
 			}
-			processExtension(extension, base);
+			processExtension(extension, base, locations);
 		}
 	}
 
-	private void processExtension(IExtension extension, IPluginModelBase base) {
+	private void processExtension(IExtension extension, IPluginModelBase base, Map<String, String> locations) {
 		IConfigurationElement[] children = extension.getConfigurationElements();
 		for (IConfigurationElement element : children) {
 			if (element.getName().equals("javadoc")) { //$NON-NLS-1$
@@ -101,7 +133,7 @@ public class JavadocLocationManager {
 				}
 				try {
 					new URL(path);
-					processPlugins(path, element.getChildren());
+					processPlugins(path, element.getChildren(), locations);
 				} catch (MalformedURLException e) {
 					String attr = element.getAttribute("archive"); //$NON-NLS-1$
 					boolean archive = attr == null ? false : "true".equals(attr); //$NON-NLS-1$
@@ -128,31 +160,28 @@ public class JavadocLocationManager {
 							buffer.append("!/"); //$NON-NLS-1$
 						}
 					}
-					processPlugins(buffer.toString(), element.getChildren());
+					processPlugins(buffer.toString(), element.getChildren(), locations);
 				}
 			}
 		}
 	}
 
-	private void processPlugins(String path, IConfigurationElement[] plugins) {
+	private void processPlugins(String path, IConfigurationElement[] plugins, Map<String, String> locations) {
 		for (IConfigurationElement plugin : plugins) {
 			if (plugin.getName().equals("plugin")) { //$NON-NLS-1$
 				String id = plugin.getAttribute("id"); //$NON-NLS-1$
 				if (id == null) {
 					continue;
 				}
-				Set<String> set = fLocations.get(path);
-				if (set == null) {
-					set = new HashSet<>();
-					fLocations.put(path, set);
-				}
-				set.add(id);
+				// the first declared location is used
+				locations.putIfAbsent(id, path);
 			}
 		}
 	}
 
 	public synchronized void reset() {
 		fLocations = null;
+		fExternalLocations.clear();
 	}
 
 }
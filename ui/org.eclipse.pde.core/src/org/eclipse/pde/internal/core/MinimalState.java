@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -348,6 +348,15 @@ public class MinimalState {
 		return status;
 	}
 
+	/**
+	 * Forces the platform properties of this state to be recomputed on the
+	 * next resolve, for example because the target environment might have
+	 * changed.
+	 */
+	public void resetPlatformProperties() {
+		fEEListChanged = true;
+	}
+
 	public void removeBundleDescription(BundleDescription description) {
 		if (description != null) {
 			fState.removeBundle(description);
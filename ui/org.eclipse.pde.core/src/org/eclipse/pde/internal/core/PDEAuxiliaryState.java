@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,7 +64,11 @@ public class PDEAuxiliaryState {
 	private static String ELEMENT_LIB = "library"; //$NON-NLS-1$
 	private static String ELEMENT_ROOT = "map"; //$NON-NLS-1$
 
-	protected Map<String, PluginInfo> fPluginInfos;
+	/**
+	 * plugin infos by bundle id, keyed by the id itself so lookups do not
+	 * have to format it as a string
+	 */
+	protected Map<Long, PluginInfo> fPluginInfos;
 
 	/**
 	 * Constructor
@@ -136,61 +140,61 @@ public class PDEAuxiliaryState {
 			}
 		}
 		info.libraries = list.toArray(new String[list.size()]);
-		fPluginInfos.put(element.getAttribute(ATTR_BUNDLE_ID), info);
+		fPluginInfos.put(Long.valueOf(element.getAttribute(ATTR_BUNDLE_ID)), info);
 	}
 
 	public String getClassName(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? null : info.className;
 	}
 
 	public boolean hasExtensibleAPI(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? false : info.hasExtensibleAPI;
 	}
 
 	public boolean isPatchFragment(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? false : info.isPatchFragment;
 	}
 
 	public boolean hasBundleStructure(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? false : info.hasBundleStructure;
 	}
 
 	public String getPluginName(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? null : info.name;
 	}
 
 	public String getProviderName(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? null : info.providerName;
 	}
 
 	public String[] getLibraryNames(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? new String[0] : info.libraries;
 	}
 
 	public String getBundleLocalization(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? null : info.localization;
 	}
 
 	public String getProject(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? null : info.project;
 	}
 
 	public String getBundleSourceEntry(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? null : info.bundleSourceEntry;
 	}
 
 	public boolean exportsExternalAnnotations(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(bundleID);
 		return info == null ? false : info.exportsExternalAnnotations;
 	}
 
@@ -204,11 +208,11 @@ public class PDEAuxiliaryState {
 			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
 			Element root = doc.createElement(ELEMENT_ROOT);
 
-			Iterator<String> iter = fPluginInfos.keySet().iterator();
+			Iterator<Long> iter = fPluginInfos.keySet().iterator();
 			while (iter.hasNext()) {
-				String key = iter.next();
+				Long key = iter.next();
 				Element element = doc.createElement(ELEMENT_BUNDLE);
-				element.setAttribute(ATTR_BUNDLE_ID, key);
+				element.setAttribute(ATTR_BUNDLE_ID, key.toString());
 				PluginInfo info = fPluginInfos.get(key);
 				if (info.className != null) {
 					element.setAttribute(ATTR_CLASS, info.className);
@@ -275,7 +279,7 @@ public class PDEAuxiliaryState {
 					}
 				}
 				return true;
-			} catch (org.xml.sax.SAXException | IOException | ParserConfigurationException e) {
+			} catch (org.xml.sax.SAXException | IOException | ParserConfigurationException | NumberFormatException e) {
 				PDECore.log(e);
 			}
 		}
@@ -384,7 +388,7 @@ public class PDEAuxiliaryState {
 		info.bundleSourceEntry = manifest.get(ICoreConstants.ECLIPSE_SOURCE_BUNDLE);
 		info.exportsExternalAnnotations = "true" //$NON-NLS-1$
 				.equals(manifest.get(ICoreConstants.ECLIPSE_EXPORT_EXTERNAL_ANNOTATIONS));
-		fPluginInfos.put(Long.toString(desc.getBundleId()), info);
+		fPluginInfos.put(desc.getBundleId(), info);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -78,11 +78,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static final QualifiedName SCHEMA_PREVIEW_FILE = new QualifiedName(PLUGIN_ID, "SCHEMA_PREVIEW_FILE"); //$NON-NLS-1$
 
 	public static boolean DEBUG_CLASSPATH = false;
+	public static boolean DEBUG_CLASSPATH_TIMING = false;
 	public static boolean DEBUG_MODEL = false;
 	public static boolean DEBUG_TARGET_PROFILE = false;
 	public static boolean DEBUG_VALIDATION = false;
 	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
+	private static final String CLASSPATH_TIMING_DEBUG = PLUGIN_ID + "/classpath/timing"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
@@ -411,6 +413,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		}
 
 		PluginModelManager.shutdownInstance();
+		ClasspathHelper.shutdown();
 
 		if (fTargetPlatformService != null) {
 			fTargetPlatformService.unregister();
@@ -449,6 +452,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public void optionsChanged(DebugOptions options) {
 		boolean DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_CLASSPATH = DEBUG && options.getBooleanOption(CLASSPATH_DEBUG, false);
+		DEBUG_CLASSPATH_TIMING = DEBUG && options.getBooleanOption(CLASSPATH_TIMING_DEBUG, false);
 		DEBUG_MODEL = DEBUG && options.getBooleanOption(MODEL_DEBUG, false);
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
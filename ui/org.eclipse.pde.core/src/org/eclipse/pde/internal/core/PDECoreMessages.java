@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -113,6 +113,7 @@ public class PDECoreMessages extends NLS {
 	public static String SchemaCompositor_choice;
 	public static String SchemaCompositor_group;
 	public static String SchemaCompositor_sequence;
+	public static String SchemaRegistry_loadingSchemas;
 
 	static {
 		// load message values from bundle file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,11 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
@@ -48,6 +51,27 @@ public class PDEExtensionRegistry {
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
+	/**
+	 * Contributions already looked up in the registry. The index is filled on
+	 * demand and replaced by an empty one whenever contributions are added to
+	 * or removed from the registry, so readers never need to lock.
+	 */
+	private volatile ContributionIndex fIndex = new ContributionIndex();
+
+	/**
+	 * The extensions contributed to an extension point, the model contributing
+	 * each extension and the distinct contributing models that are not hidden
+	 * by a workspace model.
+	 */
+	private record PointContributions(IExtension[] extensions, IPluginModelBase[] contributors,
+			IPluginModelBase[] plugins) {
+	}
+
+	private static final class ContributionIndex {
+		final Map<String, PointContributions> byPoint = new ConcurrentHashMap<>();
+		final Map<IPluginModelBase, IExtension[]> byModel = new ConcurrentHashMap<>();
+	}
+
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
@@ -112,12 +136,45 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		contributionsChanged();
 	}
 
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		contributionsChanged();
+	}
+
+	/**
+	 * Discards all indexed contributions. Called after bundles were added to or
+	 * removed from the registry, or the enablement of models changed.
+	 */
+	void contributionsChanged() {
+		fIndex = new ContributionIndex();
+	}
+
+	private PointContributions getContributions(IExtensionPoint point) {
+		return fIndex.byPoint.computeIfAbsent(point.getUniqueIdentifier(), id -> {
+			IExtension[] extensions = point.getExtensions();
+			IPluginModelBase[] contributors = new IPluginModelBase[extensions.length];
+			Set<IPluginModelBase> plugins = new LinkedHashSet<>();
+			for (int i = 0; i < extensions.length; i++) {
+				contributors[i] = getPlugin(extensions[i].getContributor(), true);
+				IPluginModelBase base = getPlugin(extensions[i].getContributor(), false);
+				if (base != null) {
+					plugins.add(base);
+				}
+			}
+			return new PointContributions(extensions, contributors, plugins.toArray(new IPluginModelBase[plugins.size()]));
+		});
+	}
+
+	private IExtension[] getExtensions(IPluginModelBase base) {
+		return fIndex.byModel.computeIfAbsent(base, b -> {
+			IContributor contributor = fStrategy.createContributor(b);
+			return contributor != null ? getRegistry().getExtensions(contributor) : new IExtension[0];
+		});
 	}
 
 	// Methods to access data in Extension Registry
@@ -128,15 +185,17 @@ public class PDEExtensionRegistry {
 			// if extension point for extension does not exist, search all plug-ins manually
 			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
 		}
-		IExtension[] exts = point.getExtensions();
-		HashSet<IPluginModelBase> plugins = new HashSet<>();
-		for (IExtension ext : exts) {
-			IPluginModelBase base = getPlugin(ext.getContributor(), false);
-			if (base != null && !plugins.contains(base) && (!activeOnly || base.isEnabled())) {
-				plugins.add(base);
+		IPluginModelBase[] plugins = getContributions(point).plugins();
+		if (!activeOnly) {
+			return plugins.clone();
+		}
+		ArrayList<IPluginModelBase> list = new ArrayList<>(plugins.length);
+		for (IPluginModelBase base : plugins) {
+			if (base.isEnabled()) {
+				list.add(base);
 			}
 		}
-		return plugins.toArray(new IPluginModelBase[plugins.size()]);
+		return list.toArray(new IPluginModelBase[list.size()]);
 	}
 
 	/*
@@ -185,11 +244,7 @@ public class PDEExtensionRegistry {
 	}
 
 	public IPluginExtension[] findExtensionsForPlugin(IPluginModelBase base) {
-		IContributor contributor = fStrategy.createContributor(base);
-		if (contributor == null) {
-			return new IPluginExtension[0];
-		}
-		IExtension[] extensions = getRegistry().getExtensions(fStrategy.createContributor(base));
+		IExtension[] extensions = getExtensions(base);
 		ArrayList<PluginExtension> list = new ArrayList<>();
 		for (IExtension ext : extensions) {
 			PluginExtension extension = new PluginExtension(ext);
@@ -216,6 +271,23 @@ public class PDEExtensionRegistry {
 		return list.toArray(new IPluginExtensionPoint[list.size()]);
 	}
 
+	/*
+	 * Returns the ids of the extension points the given model contributes
+	 * extensions to, without loading the extensions of the model
+	 */
+	public String[] findReferencedExtensionPointIds(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return new String[0];
+		}
+		IExtension[] extensions = getRegistry().getExtensions(contributor);
+		String[] ids = new String[extensions.length];
+		for (int i = 0; i < extensions.length; i++) {
+			ids[i] = extensions[i].getExtensionPointUniqueIdentifier();
+		}
+		return ids;
+	}
+
 	private ISharedPluginModel getExtensionsModel(IPluginModelBase base) {
 		if (base instanceof IBundlePluginModelBase) {
 			return ((IBundlePluginModelBase) base).getExtensionsModel();
@@ -227,24 +299,21 @@ public class PDEExtensionRegistry {
 		ArrayList<IExtension> list = new ArrayList<>();
 		IExtensionPoint point = getExtensionPoint(extensionPointId);
 		if (point != null) {
-			IExtension[] extensions = point.getExtensions();
+			PointContributions contributions = getContributions(point);
+			IExtension[] extensions = contributions.extensions();
 			if (!activeOnly) {
-				return extensions;
+				return extensions.clone();
 			}
-			for (IExtension extension : extensions) {
-				IPluginModelBase base = getPlugin(extension.getContributor(), true);
+			for (int i = 0; i < extensions.length; i++) {
+				IPluginModelBase base = contributions.contributors()[i];
 				if (base != null && base.isEnabled()) {
-					list.add(extension);
+					list.add(extensions[i]);
 				}
 			}
 		} else {
 			IPluginModelBase[] bases = activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
 			for (IPluginModelBase base : bases) {
-				IContributor contributor = fStrategy.createContributor(base);
-				if (contributor == null) {
-					continue;
-				}
-				IExtension[] extensions = getRegistry().getExtensions(contributor);
+				IExtension[] extensions = getExtensions(base);
 				for (IExtension extension : extensions) {
 					if (extension.getExtensionPointUniqueIdentifier().equals(extensionPointId)) {
 						list.add(extension);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			for (ModelEntry entry : entries) {
 				addBundles(fRegistry, entry.getActiveModels());
 			}
+			fPDERegistry.contributionsChanged();
 		}
 
 	}
@@ -132,6 +133,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					addBundles(fRegistry, externalModels);
 				}
 			}
+			fPDERegistry.contributionsChanged();
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,11 @@ public class PDEState extends MinimalState {
 
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
+	/**
+	 * file stamps of the target bundles added to this state, keyed by the
+	 * bundle's absolute location
+	 */
+	private final Map<String, Long> fTargetStamps = new HashMap<>();
 
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
@@ -95,6 +100,7 @@ public class PDEState extends MinimalState {
 			try {
 				subMonitor.subTask(file.getName());
 				addBundle(file, -1);
+				fTargetStamps.put(file.getAbsolutePath(), getStamp(file));
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -227,6 +233,81 @@ public class PDEState extends MinimalState {
 		return fTargetModels.toArray(new IPluginModelBase[fTargetModels.size()]);
 	}
 
+	/**
+	 * Returns whether the target bundle at the given location was added to
+	 * this state and has not been modified on disk since.
+	 *
+	 * @param location the location of the target bundle
+	 * @return <code>true</code> if the bundle at the given location is known
+	 *         and unchanged, <code>false</code> otherwise
+	 */
+	public boolean isTargetBundleUnchanged(File location) {
+		Long stamp = fTargetStamps.get(location.getAbsolutePath());
+		return stamp != null && stamp.longValue() == getStamp(location);
+	}
+
+	/**
+	 * Returns the stamp of a target bundle used to detect modifications. The
+	 * time stamp of a directory does not change when a file inside it is
+	 * edited, so for directory bundles the manifest files are stamped too.
+	 */
+	private static long getStamp(File location) {
+		long stamp = location.lastModified();
+		if (location.isDirectory()) {
+			stamp = 31 * stamp + new File(location, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR).lastModified();
+			stamp = 31 * stamp + new File(location, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR).lastModified();
+			stamp = 31 * stamp + new File(location, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR).lastModified();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Adds the bundle at the given location to this state as a target bundle
+	 * and creates its external model. The state is not resolved.
+	 *
+	 * @param uri location of the target bundle
+	 * @return the model of the added bundle or <code>null</code> if the
+	 *         location does not contain a bundle or the bundle duplicates one
+	 *         that is already part of the state
+	 * @throws CoreException if the bundle manifest can not be read
+	 */
+	public IPluginModelBase addTargetBundle(URI uri) throws CoreException {
+		File file = toFile(uri);
+		if (file == null) {
+			return null;
+		}
+		BundleDescription desc = addBundle(file, -1);
+		if (desc == null) {
+			return null;
+		}
+		for (BundleDescription conflict : fState.getBundles(desc.getSymbolicName())) {
+			if (conflict != desc && conflict.getVersion().equals(desc.getVersion())
+					&& fTargetStamps.containsKey(conflict.getLocation())) {
+				fState.removeBundle(desc);
+				return null;
+			}
+		}
+		fTargetStamps.put(file.getAbsolutePath(), getStamp(file));
+		IPluginModelBase model = createExternalModel(desc);
+		fTargetModels.add(model);
+		return model;
+	}
+
+	/**
+	 * Removes the given target model and its bundle description from this
+	 * state. The state is not resolved.
+	 *
+	 * @param model the external model to remove
+	 */
+	public void removeTargetModel(IPluginModelBase model) {
+		fTargetModels.remove(model);
+		BundleDescription desc = model.getBundleDescription();
+		if (desc != null) {
+			fTargetStamps.remove(desc.getLocation());
+			removeBundleDescription(desc);
+		}
+	}
+
 	/**
 	 * In previous releases the state was saved to the PDE .metadata directory.  If
 	 * any of these states are still around we should delete them.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,18 +31,23 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
@@ -62,10 +67,14 @@ import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.natures.BndProject;
 import org.eclipse.pde.internal.core.natures.PluginProject;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
 import org.osgi.resource.Resource;
 
+import aQute.bnd.build.Project;
+
 public class PluginModelManager implements IModelProviderListener {
 	private static final String fExternalPluginListFile = "SavedExternalPluginList.txt"; //$NON-NLS-1$
 	private static PluginModelManager fModelManager;
@@ -107,6 +116,7 @@ public class PluginModelManager implements IModelProviderListener {
 						fProjects.clear();
 						fContainers.clear();
 					}
+					computeClasspathEntries(projects, containers, monitor);
 					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
@@ -119,6 +129,80 @@ public class PluginModelManager implements IModelProviderListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Computes the content of the given containers in parallel, so JDT does
+		 * not compute them one after the other when the containers are set.
+		 * The containers are computed by a group of jobs limited to the number
+		 * of processors. The containers of bnd projects are computed
+		 * sequentially in this job, as bnd's workspace and project models are
+		 * not known to be thread-safe.
+		 */
+		private void computeClasspathEntries(IJavaProject[] projects, IClasspathContainer[] containers,
+				IProgressMonitor monitor) {
+			long start = System.currentTimeMillis();
+			List<Integer> sequential = new ArrayList<>();
+			List<Integer> parallel = new ArrayList<>();
+			for (int i = 0; i < containers.length; i++) {
+				(isBndProject(projects[i].getProject()) ? sequential : parallel).add(i);
+			}
+			SubMonitor subMonitor = SubMonitor.convert(monitor, containers.length);
+			JobGroup group = null;
+			if (parallel.size() > 1) {
+				int threads = Math.min(parallel.size(), Runtime.getRuntime().availableProcessors());
+				group = new JobGroup(PDECoreMessages.PluginModelManager_1, threads, parallel.size());
+				for (int i : parallel) {
+					Job job = Job.create(PDECoreMessages.PluginModelManager_1, m -> {
+						computeClasspathEntries(projects[i], containers[i]);
+					});
+					job.setSystem(true);
+					job.setJobGroup(group);
+					job.schedule();
+				}
+			} else {
+				sequential.addAll(parallel);
+			}
+			for (int i : sequential) {
+				if (subMonitor.isCanceled()) {
+					break;
+				}
+				computeClasspathEntries(projects[i], containers[i]);
+				subMonitor.worked(1);
+			}
+			if (group != null) {
+				try {
+					group.join(0, subMonitor.split(parallel.size()));
+				} catch (OperationCanceledException e) {
+					// JDT computes the remaining containers when they are set
+					group.cancel();
+				} catch (InterruptedException e) {
+					group.cancel();
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (PDECore.DEBUG_CLASSPATH_TIMING) {
+				System.out.println(containers.length + " classpath containers computed in " //$NON-NLS-1$
+						+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+			}
+		}
+
+		private static boolean isBndProject(IProject project) {
+			return BndProject.isBndProject(project) || project.getFile(Project.BNDFILE).exists();
+		}
+
+		private static void computeClasspathEntries(IJavaProject project, IClasspathContainer container) {
+			long start = System.currentTimeMillis();
+			try {
+				container.getClasspathEntries();
+			} catch (RuntimeException e) {
+				// JDT computes the container again when it is set
+				PDECore.log(e);
+			}
+			if (PDECore.DEBUG_CLASSPATH_TIMING) {
+				System.out.println("Classpath container of " + project.getElementName() + " computed in " //$NON-NLS-1$ //$NON-NLS-2$
+						+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+			}
+		}
+
 		/**
 		 * Queues more projects/containers.
 		 */
@@ -202,6 +286,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
+	private final Set<StateCache<?>> fStateCaches = ConcurrentHashMap.newKeySet(); // caches of values derived from the resolver State
 	private boolean fCancelled = false;
 
 	/**
@@ -396,6 +481,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param delta	the delta from the resolver State.
 	 */
 	private void fireStateDelta(StateDelta delta) {
+		clearStateCaches();
 		if (fStateListeners != null) {
 			ListIterator<IStateDeltaListener> li = fStateListeners.listIterator();
 			while (li.hasNext()) {
@@ -410,6 +496,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param newState	the new PDEState.
 	 */
 	private void fireStateChanged(PDEState newState) {
+		clearStateCaches();
 		if (fStateListeners != null) {
 			ListIterator<IStateDeltaListener> li = fStateListeners.listIterator();
 			while (li.hasNext()) {
@@ -418,6 +505,20 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	private void clearStateCaches() {
+		fStateCaches.forEach(StateCache::clear);
+	}
+
+	/**
+	 * Registers a cache whose value is dropped whenever the resolver State
+	 * changes.
+	 *
+	 * @param cache the cache to be registered
+	 */
+	void addStateCache(StateCache<?> cache) {
+		fStateCaches.add(cache);
+	}
+
 	/**
 	 * Add a listener to the model manager
 	 *
@@ -508,12 +609,16 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Clears all existing models and recreates them
+	 * Updates the models after the target has been reloaded. If the new target
+	 * only differs from the current one in a few bundles, the existing state is
+	 * updated incrementally; otherwise all existing models are cleared and
+	 * recreated.
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
+			Map<String, LocalModelEntry> previousEntries = fEntries;
 			fEntries = null;
-			initializeTable(monitor);
+			initializeTable(previousEntries, monitor);
 		}
 	}
 
@@ -531,6 +636,17 @@ public class PluginModelManager implements IModelProviderListener {
 
 	/** Has to be called synchronized with fEntriesSynchronizer **/
 	private void initializeTable(IProgressMonitor monitor) {
+		initializeTable(null, monitor);
+	}
+
+	/**
+	 * Has to be called synchronized with fEntriesSynchronizer
+	 *
+	 * @param previousEntries
+	 *            the master table before the target was reloaded, or
+	 *            <code>null</code> if the models must be created from scratch
+	 */
+	private void initializeTable(Map<String, LocalModelEntry> previousEntries, IProgressMonitor monitor) {
 		if (fEntries != null) {
 			return;
 		}
@@ -578,6 +694,14 @@ public class PluginModelManager implements IModelProviderListener {
 			PDECore.log(Status.warning(PDECoreMessages.PluginModelManager_TargetInitCancelledLog));
 			// Set a flag so the feature model manager can avoid starting the target resolve again
 			fCancelled = true;
+		} else if (previousEntries != null && oldState != null
+				&& reloadTargetIncrementally(previousEntries, externalUris, subMon.split(60))) {
+			if (PDECore.DEBUG_MODEL) {
+				long time = System.currentTimeMillis() - startTime;
+				System.out.println("PDE plug-in models updated incrementally: " + time + " ms"); //$NON-NLS-1$//$NON-NLS-2$
+			}
+			PDECore.getDefault().getSchemaRegistry().schedulePreload();
+			return;
 		}
 
 		fState = new PDEState(externalUris, true, true, subMon.split(15));
@@ -633,7 +757,135 @@ public class PluginModelManager implements IModelProviderListener {
 			long time = System.currentTimeMillis() - startTime;
 			System.out.println("PDE plug-in model initialization complete: " + time + " ms"); //$NON-NLS-1$//$NON-NLS-2$
 		}
+		if (!fCancelled) {
+			PDECore.getDefault().getSchemaRegistry().schedulePreload();
+		}
+
+	}
+
+	/**
+	 * Applies the differences between the current target models and the given
+	 * target bundles to the existing state and master table, instead of
+	 * recreating all models. Bundles whose location is no longer part of the
+	 * target are removed, new locations are added and bundles modified on disk
+	 * are replaced. The state is then resolved incrementally and only the
+	 * affected entries and projects are notified.
+	 * <p>
+	 * Has to be called synchronized with fEntriesSynchronizer
+	 * </p>
+	 *
+	 * @param previousEntries
+	 *            the master table before the target was reloaded
+	 * @param externalUris
+	 *            the locations of the bundles in the new target
+	 * @return <code>true</code> if the target was applied incrementally,
+	 *         <code>false</code> if the models have to be recreated
+	 */
+	private boolean reloadTargetIncrementally(Map<String, LocalModelEntry> previousEntries, URI[] externalUris,
+			IProgressMonitor monitor) {
+		IPluginModelBase[] targetModels = fExternalManager.getAllModels();
+		Map<String, IPluginModelBase> remaining = new HashMap<>();
+		for (IPluginModelBase model : targetModels) {
+			BundleDescription desc = model.getBundleDescription();
+			if (desc == null) {
+				return false;
+			}
+			remaining.put(desc.getLocation(), model);
+		}
+
+		List<URI> added = new ArrayList<>();
+		List<IPluginModelBase> removed = new ArrayList<>();
+		for (URI uri : externalUris) {
+			IPath path = URIUtil.toPath(uri);
+			if (path == null) {
+				continue;
+			}
+			File location = path.toFile();
+			IPluginModelBase model = remaining.remove(location.getAbsolutePath());
+			if (model == null) {
+				added.add(uri);
+			} else if (!fState.isTargetBundleUnchanged(location)) {
+				removed.add(model);
+				added.add(uri);
+			}
+		}
+		removed.addAll(remaining.values());
+
+		// a large or fundamental change (e.g. of the system bundle) is cheaper and
+		// safer to handle by recreating the state
+		if (added.size() + removed.size() > targetModels.length / 2) {
+			return false;
+		}
+		String systemBundle = fState.getSystemBundle();
+		for (IPluginModelBase model : removed) {
+			if (systemBundle.equals(model.getBundleDescription().getSymbolicName())) {
+				return false;
+			}
+		}
+
+		SubMonitor subMon = SubMonitor.convert(monitor, added.size() + removed.size() + 1);
+		fEntries = previousEntries;
+		PluginModelDelta delta = new PluginModelDelta();
+		for (IPluginModelBase model : removed) {
+			String id = model.getPluginBase().getId();
+			fState.removeTargetModel(model);
+			if (id != null) {
+				handleRemove(id, model, delta);
+			}
+			subMon.split(1);
+		}
+
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		boolean preferWorkspaceBundle = prefs.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+		Set<String> addedBSNs = new HashSet<>();
+		for (URI uri : added) {
+			subMon.split(1);
+			IPluginModelBase model;
+			try {
+				model = fState.addTargetBundle(uri);
+			} catch (CoreException e) {
+				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+					PDECore.log(e);
+				}
+				continue;
+			}
+			String id = model == null ? null : model.getPluginBase().getId();
+			if (id == null) {
+				continue;
+			}
+			// workspace bundles take precedence over target bundles added to the state
+			LocalModelEntry entry = fEntries.get(id);
+			if (entry != null && entry.hasWorkspaceModels()) {
+				if (preferWorkspaceBundle) {
+					fState.removeBundleDescription(model.getBundleDescription());
+				} else {
+					fState.updateBundleDescription(model.getBundleDescription());
+				}
+			}
+			handleAdd(id, model, delta);
+			addedBSNs.add(id);
+		}
+		fExternalManager.setModels(fState.getTargetModels());
+		saveExternalPluginList(externalUris);
 
+		// the target environment may have changed along with the target content
+		fState.resetPlatformProperties();
+		StateDelta stateDelta = addedBSNs.isEmpty() ? fState.resolveState(true)
+				: fState.resolveState(addedBSNs.toArray(new String[addedBSNs.size()]));
+		subMon.split(1);
+
+		if (!removed.isEmpty()) {
+			// bundle ids of removed contributors are no longer part of the state
+			PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target changed in " + added.size() + " added and " + removed.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " removed bundles, updating PDE models incrementally"); //$NON-NLS-1$
+		}
+		updateAffectedEntries(stateDelta);
+		fireStateDelta(stateDelta);
+		fireDelta(delta);
+		return true;
 	}
 
 	/**
@@ -1231,6 +1483,8 @@ public class PluginModelManager implements IModelProviderListener {
 		if (fStateListeners != null) {
 			fStateListeners.clear();
 		}
+		clearStateCaches();
+		fStateCaches.clear();
 	}
 
 	public void addExtensionDeltaListener(IExtensionDeltaListener listener) {
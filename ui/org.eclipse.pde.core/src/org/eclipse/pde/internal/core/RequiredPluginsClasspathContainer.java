@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -50,13 +50,11 @@ import org.eclipse.osgi.service.resolver.BundleSpecification;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
-import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.core.IClasspathContributor;
 import org.eclipse.pde.core.build.IBuild;
 import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
-import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
 import org.eclipse.pde.internal.core.bnd.BndProjectManager;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
@@ -314,41 +312,24 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
-		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
-		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
-		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+		VisiblePackagesIndex index = VisiblePackagesIndex.getIndex(desc.getContainingState());
+		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>(index.getVisiblePackages(desc));
+		if (desc.getHost() != null && desc.getHost().getSupplier() instanceof BundleDescription host) {
+			// merge the packages visible to the host into the shared lists of the fragment
+			index.getVisiblePackages(host).forEach((exporter, hostRules) -> visiblePackages.merge(exporter, hostRules,
+					(rules, additionalRules) -> {
+						List<Rule> merged = new ArrayList<>(rules);
+						for (Rule rule : additionalRules) {
+							if (!merged.contains(rule)) {
+								merged.add(rule);
+							}
+						}
+						return merged;
+					}));
 		}
 		return visiblePackages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
-			Map<BundleDescription, List<Rule>> visiblePackages) {
-		if (desc == null) {
-			return;
-		}
-		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
-		for (ExportPackageDescription export : exports) {
-			BundleDescription exporter = export.getExporter();
-			if (exporter == null) {
-				continue;
-			}
-			List<Rule> list = visiblePackages.computeIfAbsent(exporter, e -> new ArrayList<>());
-			Rule rule = getRule(helper, desc, export);
-			if (!list.contains(rule)) {
-				list.add(rule);
-			}
-		}
-	}
-
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
-		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		return new Rule(path, discouraged);
-	}
-
 	protected void addDependencyViaImportPackage(BundleDescription desc, Set<BundleDescription> added,
 			Map<BundleDescription, List<Rule>> map, List<IClasspathEntry> entries) throws CoreException {
 		if (desc == null || !added.add(desc)) {
@@ -625,6 +606,7 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	protected final void findExportedPackages(BundleDescription desc, BundleDescription projectDesc,
 			Map<BundleDescription, List<Rule>> map) {
 		if (desc != null) {
+			VisiblePackagesIndex index = VisiblePackagesIndex.getIndex(desc.getContainingState());
 			Queue<BundleDescription> queue = new ArrayDeque<>();
 			queue.add(desc);
 			while (!queue.isEmpty()) {
@@ -633,8 +615,7 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 				List<Rule> rules = new ArrayList<>();
 				for (ExportPackageDescription expkg : expkgs) {
 					boolean discouraged = restrictPackage(projectDesc, expkg);
-					IPath path = IPath.fromOSString(expkg.getName().replace('.', '/') + "/*"); //$NON-NLS-1$
-					rules.add(new Rule(path, discouraged));
+					rules.add(new Rule(index.getPackagePath(expkg.getName()), discouraged));
 				}
 				map.put(bdesc, rules);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
@@ -68,6 +69,15 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
  * external plug-in added to Java search, it adds its Java libraries as external
  * JARs to the proxy project. This makes the libraries visible to the Java
  * model, and they can take part in various Java searches.
+ * <p>
+ * Changes to the set of searchable plug-ins are applied to the proxy project
+ * before the changing method returns, so callers can use the Java model of
+ * the proxy project right away. {@link #replaceAllInJavaSearch(IPluginModelBase[])}
+ * replaces the whole set with a single update of the classpath container.
+ * The libraries of each plug-in are computed once and reused until the
+ * plug-in changes, and the container is only updated if the classpath
+ * changed, so JDT only has to index the libraries that were added.
+ * </p>
  */
 public class SearchablePluginsManager implements IFileAdapterFactory, IPluginModelListener {
 
@@ -79,6 +89,12 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 	private Set<String> fPluginIdSet;
 	private ArrayList<IPluginModelListener> fListeners;
 
+	/**
+	 * The libraries of the searchable plug-ins, by plug-in id
+	 */
+	private final Map<String, List<IClasspathEntry>> fLibraries = new ConcurrentHashMap<>();
+	private volatile IClasspathEntry[] fContainerEntries;
+
 	class Listener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent e) {
@@ -104,6 +120,7 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 						synchronized (fPluginIdSet) {
 							fPluginIdSet.clear();
 						}
+						fContainerEntries = null;
 					} else if (delta.getKind() == IJavaElementDelta.ADDED) {
 						// We may be getting a queued delta from when the manager was initialized, ignore unless we don't already have data
 						boolean emptyIds;
@@ -181,21 +198,7 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 			plugins = new ArrayList<>(fPluginIdSet);
 		}
 		for (String id : plugins) {
-			ModelEntry entry = PluginRegistry.findEntry(id);
-			if (entry != null) {
-				boolean addModel = Arrays.stream(entry.getWorkspaceModels())
-						.map(IPluginModelBase::getUnderlyingResource).map(IResource::getProject)
-						.noneMatch(PluginProject::isJavaProject);
-				if (!addModel) {
-					continue;
-				}
-				IPluginModelBase[] models = entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model.isEnabled()) {
-						ClasspathUtilCore.addLibraries(model, result);
-					}
-				}
-			}
+			result.addAll(fLibraries.computeIfAbsent(id, SearchablePluginsManager::computeLibraries));
 		}
 
 		if (result.size() > 1) {
@@ -214,6 +217,26 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 		return result.toArray(new IClasspathEntry[result.size()]);
 	}
 
+	private static List<IClasspathEntry> computeLibraries(String id) {
+		List<IClasspathEntry> result = new ArrayList<>();
+		ModelEntry entry = PluginRegistry.findEntry(id);
+		if (entry != null) {
+			boolean addModel = Arrays.stream(entry.getWorkspaceModels())
+					.map(IPluginModelBase::getUnderlyingResource).map(IResource::getProject)
+					.noneMatch(PluginProject::isJavaProject);
+			if (!addModel) {
+				return result;
+			}
+			IPluginModelBase[] models = entry.getExternalModels();
+			for (IPluginModelBase model : models) {
+				if (model.isEnabled()) {
+					ClasspathUtilCore.addLibraries(model, result);
+				}
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public Object createAdapterChild(FileAdapter parent, File file) {
 		if (!file.isDirectory()) {
@@ -338,6 +361,41 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 		}
 	}
 
+	/**
+	 * Replaces the plug-ins taking part in the Java search by the given ones.
+	 * Unlike removing all plug-ins and adding the new ones, this updates the
+	 * proxy project only once, so JDT only has to index the libraries of the
+	 * plug-ins that were not searchable before.
+	 *
+	 * @param models
+	 *            the plug-ins to take part in the Java search
+	 */
+	public void replaceAllInJavaSearch(IPluginModelBase[] models) {
+		checkForProxyProject();
+		Set<String> newIds = new TreeSet<>();
+		for (IPluginModelBase model : models) {
+			newIds.add(model.getPluginBase().getId());
+		}
+		Set<String> changedIds;
+		synchronized (fPluginIdSet) {
+			changedIds = new HashSet<>(fPluginIdSet);
+			changedIds.addAll(newIds);
+			changedIds.removeIf(id -> fPluginIdSet.contains(id) && newIds.contains(id));
+			fPluginIdSet = newIds;
+		}
+		if (!changedIds.isEmpty()) {
+			PluginModelDelta delta = new PluginModelDelta();
+			for (String id : changedIds) {
+				ModelEntry entry = PluginRegistry.findEntry(id);
+				if (entry != null) {
+					delta.addEntry(entry, PluginModelDelta.CHANGED);
+				}
+			}
+			resetContainer();
+			fireDelta(delta);
+		}
+	}
+
 	public boolean isInJavaSearch(String symbolicName) {
 		synchronized (fPluginIdSet) {
 			return fPluginIdSet.contains(symbolicName);
@@ -348,7 +406,12 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 		IJavaProject jProject = getProxyProject();
 		try {
 			if (jProject != null) {
-				JavaCore.setClasspathContainer(PDECore.JAVA_SEARCH_CONTAINER_PATH, new IJavaProject[] {jProject}, new IClasspathContainer[] {new ExternalJavaSearchClasspathContainer()}, null);
+				ExternalJavaSearchClasspathContainer container = new ExternalJavaSearchClasspathContainer();
+				IClasspathEntry[] entries = container.getClasspathEntries();
+				if (!Arrays.equals(entries, fContainerEntries)) {
+					JavaCore.setClasspathContainer(PDECore.JAVA_SEARCH_CONTAINER_PATH, new IJavaProject[] {jProject}, new IClasspathContainer[] {container}, null);
+					fContainerEntries = entries;
+				}
 				saveStates();
 			}
 		} catch (JavaModelException e) {
@@ -357,15 +420,24 @@ public class SearchablePluginsManager implements IFileAdapterFactory, IPluginMod
 
 	@Override
 	public void modelsChanged(PluginModelDelta delta) {
-		ModelEntry[] entries = delta.getRemovedEntries();
+		boolean affected = false;
 		synchronized (fPluginIdSet) {
-			for (ModelEntry entry : entries) {
-				if (fPluginIdSet.contains(entry.getId())) {
-					fPluginIdSet.remove(entry.getId());
-				}
+			for (ModelEntry entry : delta.getRemovedEntries()) {
+				affected |= fPluginIdSet.remove(entry.getId());
+				fLibraries.remove(entry.getId());
 			}
+			for (ModelEntry entry : delta.getAddedEntries()) {
+				affected |= fPluginIdSet.contains(entry.getId());
+				fLibraries.remove(entry.getId());
+			}
+			for (ModelEntry entry : delta.getChangedEntries()) {
+				affected |= fPluginIdSet.contains(entry.getId());
+				fLibraries.remove(entry.getId());
+			}
+		}
+		if (affected) {
+			resetContainer();
 		}
-		resetContainer();
 	}
 
 	private void fireDelta(PluginModelDelta delta) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2022 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -65,6 +69,26 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private BundleManifestSourceLocationManager fBundleManifestLocator = null;
 
+	/**
+	 * Results of the lookups in bundle manifest and extension locations,
+	 * including the lookups that found nothing. Cleared by {@link #reset()},
+	 * which is called when the target platform is loaded. Lookups in user
+	 * specified locations are not cached, since the user can add source to
+	 * these locations at any time.
+	 */
+	private final Map<SourceLookup, Optional<IPath>> fLookups = new ConcurrentHashMap<>();
+
+	private enum LookupKind {
+		BUNDLE_MANIFEST, EXTENSION
+	}
+
+	/**
+	 * A lookup of a relative path, or of the source bundle of a plug-in, in
+	 * one kind of source location
+	 */
+	private record SourceLookup(LookupKind kind, IPath path) {
+	}
+
 	/**
 	 * Searches source locations for one that provides source for the given pluginBase.
 	 * Will search user specified locations, then bundle manifest specified locations, then
@@ -202,6 +226,7 @@ public class SourceLocationManager implements ICoreConstants {
 	public void reset() {
 		fExtensionLocations = null;
 		fBundleManifestLocator = null;
+		fLookups.clear();
 	}
 
 	/**
@@ -292,8 +317,11 @@ public class SourceLocationManager implements ICoreConstants {
 	 * @return path to the source file or <code>null</code> if one could not be found or if the file does not exist
 	 */
 	private IPath searchUserSpecifiedLocations(IPath relativePath) {
-		List<IPath> userLocations = getUserLocations();
-		for (IPath location : userLocations) {
+		return findInLocations(getUserLocations(), relativePath);
+	}
+
+	private static IPath findInLocations(Collection<IPath> locations, IPath relativePath) {
+		for (IPath location : locations) {
 			IPath fullPath = location.append(relativePath);
 			File file = fullPath.toFile();
 			if (file.exists()) {
@@ -313,13 +341,12 @@ public class SourceLocationManager implements ICoreConstants {
 	 *         found or if the file does not exist
 	 */
 	private IPath searchExtensionLocations(IPath relativePath, IPluginBase plugin) {
-		for (IPath location : getExtensionLocations()) {
-			IPath fullPath = location.append(relativePath);
-			File file = fullPath.toFile();
-			if (file.exists()) {
-				return fullPath;
-			}
+		IPath result = lookup(LookupKind.EXTENSION, relativePath,
+				() -> findInLocations(getExtensionLocations(), relativePath));
+		if (result != null) {
+			return result;
 		}
+		// dynamic locators may find source later, so they are always asked
 		return getExtensions().locators.stream().map(locator -> {
 			try {
 				return locator.locator.locateSource(plugin);
@@ -337,11 +364,29 @@ public class SourceLocationManager implements ICoreConstants {
 	 * @return path to the source file or <code>null</code> if one could not be found or if the file does not exist
 	 */
 	private IPath searchBundleManifestLocations(IPluginBase pluginBase) {
-		IPath location = getBundleManifestLocation(pluginBase.getId(), new Version(pluginBase.getVersion()));
-		if (location != null && location.toFile().exists()) {
-			return location;
+		Version version = new Version(pluginBase.getVersion());
+		IPath key = IPath.fromOSString(pluginBase.getId() + '_' + version);
+		return lookup(LookupKind.BUNDLE_MANIFEST, key, () -> {
+			IPath location = getBundleManifestLocation(pluginBase.getId(), version);
+			if (location != null && location.toFile().exists()) {
+				return location;
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Returns the cached result of a lookup or does the lookup and caches its
+	 * result, even if nothing was found.
+	 */
+	private IPath lookup(LookupKind kind, IPath path, Supplier<IPath> search) {
+		SourceLookup key = new SourceLookup(kind, path);
+		Optional<IPath> result = fLookups.get(key);
+		if (result == null) {
+			result = Optional.ofNullable(search.get());
+			fLookups.put(key, result);
 		}
-		return null;
+		return result.orElse(null);
 	}
 
 	/**
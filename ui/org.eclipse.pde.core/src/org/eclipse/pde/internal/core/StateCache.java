@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * Holds a value derived from one version of a resolver {@link State}, e.g. an
+ * index over its bundles. The value is computed on first access and again
+ * after the state was modified or replaced by another state.
+ * <p>
+ * A cache registers with the {@link PluginModelManager} on first use, which
+ * drops the cached values whenever its state is re-resolved or replaced and
+ * forgets all caches when it is shut down.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the cached value
+ */
+public final class StateCache<T> {
+
+	private record Entry<T>(State state, long timeStamp, T value) {
+	}
+
+	private final Function<State, T> fFactory;
+	private volatile Entry<T> fEntry;
+
+	/**
+	 * @param factory
+	 *            computes the value for a state, called at most once per
+	 *            version of a state
+	 */
+	public StateCache(Function<State, T> factory) {
+		fFactory = factory;
+	}
+
+	/**
+	 * Returns the value for the current version of the given state, computing
+	 * it if the state has changed since the cached value was computed.
+	 *
+	 * @param state
+	 *            the state, must not be <code>null</code>
+	 * @return the value for the state
+	 */
+	public T get(State state) {
+		Entry<T> entry = fEntry;
+		if (isValid(entry, state)) {
+			return entry.value();
+		}
+		synchronized (this) {
+			entry = fEntry;
+			if (!isValid(entry, state)) {
+				PDECore.getDefault().getModelManager().addStateCache(this);
+				entry = new Entry<>(state, state.getTimeStamp(), fFactory.apply(state));
+				fEntry = entry;
+			}
+			return entry.value();
+		}
+	}
+
+	private static boolean isValid(Entry<?> entry, State state) {
+		return entry != null && entry.state() == state && entry.timeStamp() == state.getTimeStamp();
+	}
+
+	/**
+	 * Drops the cached value.
+	 */
+	public void clear() {
+		fEntry = null;
+	}
+}
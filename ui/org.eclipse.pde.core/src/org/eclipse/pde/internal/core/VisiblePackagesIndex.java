@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateHelper;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+
+/**
+ * Caches the packages visible to a bundle and the access rules derived from
+ * them, so the classpath containers of many projects can share the results
+ * computed for common bundles, e.g. a host and all its fragments.
+ * <p>
+ * An index is only valid for a single version of a resolver {@link State}. It
+ * is dropped when the state is modified, re-resolved or replaced. The index is
+ * thread-safe so containers can be computed concurrently.
+ * </p>
+ */
+final class VisiblePackagesIndex {
+
+	private static final StateCache<VisiblePackagesIndex> fIndex = new StateCache<>(state -> new VisiblePackagesIndex());
+
+	/** visible packages per importing bundle, grouped by exporter */
+	private final Map<BundleDescription, Map<BundleDescription, List<Rule>>> fVisiblePackages = new ConcurrentHashMap<>();
+	/** path patterns per package name */
+	private final Map<String, IPath> fPackagePaths = new ConcurrentHashMap<>();
+
+	private VisiblePackagesIndex() {
+	}
+
+	/**
+	 * Returns the index for the current version of the given state.
+	 *
+	 * @param state
+	 *            the resolved state, may be <code>null</code> for bundles that
+	 *            are no longer part of a state
+	 * @return the index, never <code>null</code>
+	 */
+	static VisiblePackagesIndex getIndex(State state) {
+		if (state == null) {
+			return new VisiblePackagesIndex();
+		}
+		return fIndex.get(state);
+	}
+
+	/**
+	 * Returns the packages visible to the given bundle as access rules, grouped
+	 * by exporting bundle. The returned map and lists must not be modified.
+	 *
+	 * @param desc
+	 *            the importing bundle
+	 * @return the visible packages, never <code>null</code>
+	 */
+	Map<BundleDescription, List<Rule>> getVisiblePackages(BundleDescription desc) {
+		return fVisiblePackages.computeIfAbsent(desc, this::computeVisiblePackages);
+	}
+
+	private Map<BundleDescription, List<Rule>> computeVisiblePackages(BundleDescription desc) {
+		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
+		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
+		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
+		for (ExportPackageDescription export : exports) {
+			BundleDescription exporter = export.getExporter();
+			if (exporter == null) {
+				continue;
+			}
+			List<Rule> list = visiblePackages.computeIfAbsent(exporter, e -> new ArrayList<>());
+			boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
+			Rule rule = new Rule(getPackagePath(export.getName()), discouraged);
+			if (!list.contains(rule)) {
+				list.add(rule);
+			}
+		}
+		visiblePackages.replaceAll((exporter, rules) -> Collections.unmodifiableList(rules));
+		return Collections.unmodifiableMap(visiblePackages);
+	}
+
+	/**
+	 * Returns the path pattern matching all types of the given package.
+	 *
+	 * @param packageName
+	 *            the package name
+	 * @return the path pattern
+	 */
+	IPath getPackagePath(String packageName) {
+		return fPackagePaths.computeIfAbsent(packageName,
+				name -> name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2022 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,9 +22,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -105,37 +110,97 @@ public abstract class WorkspaceModelManager<T> extends AbstractModelManager
 		}
 	}
 
-	private Map<IProject, T> fModels = null;
+	private volatile Map<IProject, T> fModels = null;
+	/**
+	 * The map models are created into by the workers initializing this
+	 * manager, which is only published once all models are created. Only set
+	 * for the threads of the executor created by {@link #initialize()}.
+	 */
+	private final ThreadLocal<Map<IProject, T>> fInitialModels = new ThreadLocal<>();
 	private ArrayList<ModelChange> fChangedModels;
 	private final IPreferenceChangeListener bundleRootChangedListener = createBundleRootChangeListener();
 
 	protected Map<IProject, T> getModelsMap() {
-		ensureModelsMapCreated();
-		return fModels;
+		Map<IProject, T> initialModels = fInitialModels.get();
+		if (initialModels != null) {
+			return initialModels;
+		}
+		Map<IProject, T> models = fModels;
+		return models != null ? models : ensureModelsMapCreated();
 	}
 
-	private void ensureModelsMapCreated() {
+	private synchronized Map<IProject, T> ensureModelsMapCreated() {
 		if (fModels == null) {
 			fModels = Collections.synchronizedMap(new LinkedHashMap<>());
 		}
+		return fModels;
 	}
 
-	protected synchronized void initialize() {
-		if (fModels != null) {
+	/**
+	 * Creates the models of all interesting projects of the workspace. The
+	 * models are created in parallel, without holding the monitor of this
+	 * manager, on a dedicated executor whose workers only see the map of the
+	 * models created so far. The models are published together under the
+	 * monitor once all of them are created, so other threads never see only
+	 * a part of the models.
+	 */
+	protected void initialize() {
+		if (fModels != null || fInitialModels.get() != null) {
 			return;
 		}
 
-		ensureModelsMapCreated();
-
 		IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
-		for (IProject project : projects) {
-			if (isInterestingProject(project)) {
-				createModel(project, false);
+		Map<IProject, T> initialModels = createInitialModels(projects);
+
+		synchronized (this) {
+			if (fModels != null) {
+				// initialized concurrently
+				return;
+			}
+			// keep the order of the projects in the workspace
+			Map<IProject, T> models = Collections.synchronizedMap(new LinkedHashMap<>());
+			for (IProject project : projects) {
+				T model = initialModels.get(project);
+				if (model != null) {
+					models.put(project, model);
+				}
 			}
+			fModels = models;
 		}
 		addListeners();
 	}
 
+	private Map<IProject, T> createInitialModels(IProject[] projects) {
+		Map<IProject, T> initialModels = new ConcurrentHashMap<>();
+		List<IProject> interesting = Arrays.stream(projects).filter(this::isInterestingProject).toList();
+		if (interesting.isEmpty()) {
+			return initialModels;
+		}
+		int threads = Math.min(interesting.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "PDE workspace model initializer"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			CompletableFuture<?>[] futures = interesting.stream().map(project -> CompletableFuture.runAsync(() -> {
+				fInitialModels.set(initialModels);
+				try {
+					createModel(project, false);
+				} finally {
+					fInitialModels.remove();
+				}
+			}, executor).exceptionally(e -> {
+				PDECore.log(e);
+				return null;
+			})).toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(futures).join();
+		} finally {
+			executor.shutdown();
+		}
+		return initialModels;
+	}
+
 	protected abstract boolean isInterestingProject(IProject project);
 
 	protected abstract void createModel(IProject project, boolean notify);
@@ -158,7 +223,7 @@ public abstract class WorkspaceModelManager<T> extends AbstractModelManager
 
 	protected T getModel(IProject project) {
 		initialize();
-		return fModels.get(project);
+		return getModelsMap().get(project);
 	}
 
 	@Override
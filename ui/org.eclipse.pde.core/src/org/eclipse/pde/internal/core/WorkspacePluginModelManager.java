@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -130,7 +130,7 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 			if (efile.exists()) {
 				WorkspaceExtensionsModel extModel = new WorkspaceExtensionsModel(efile);
 				extModel.setEditable(false);
-				loadModel(extModel, false);
+				extModel.loadOnDemand();
 				((IBundlePluginModelBase) model).setExtensionsModel(extModel);
 				extModel.setBundleModel((IBundlePluginModelBase) model);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,11 @@ import java.nio.file.Path;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.HexFormat;
 import java.util.List;
@@ -49,7 +51,10 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.StateCache;
+import org.osgi.framework.Constants;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -67,6 +72,9 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	private final StateCache<CapabilityIndex> capabilityIndex = new StateCache<>(
+			state -> new CapabilityIndex(this, state));
+
 	private TargetRepository() {
 	}
 
@@ -171,8 +179,18 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	public List<Capability> findProvider(Requirement requirement) {
 		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
+		if (namespace == null || ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+			// content capabilities are computed on demand from the bundle files
+			return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
+					.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
+					.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
+					.collect(ResourceUtils.toCapabilities());
+		}
+		Optional<State> state = getTargetPlatformState();
+		if (state.isEmpty()) {
+			return List.of();
+		}
+		return capabilityIndex.get(state.get()).candidates(requirement).stream()
 				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
 	}
@@ -340,6 +358,99 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	}
 
+	/**
+	 * Index of the capabilities of all bundles in one version of a state, per
+	 * namespace and keyed by the primary attribute of the namespace (the
+	 * attribute named like the namespace, e.g. the package name for
+	 * <code>osgi.wiring.package</code>, or <code>objectClass</code> for
+	 * <code>osgi.service</code>). The capabilities of a namespace are indexed
+	 * on the first request for that namespace.
+	 */
+	private static final class CapabilityIndex {
+
+		private static final String SERVICE_NAMESPACE = "osgi.service"; //$NON-NLS-1$
+
+		private final Map<String, NamespaceIndex> namespaces = new ConcurrentHashMap<>();
+		private final List<BundleDescriptionRepositoryResource> resources;
+
+		CapabilityIndex(Repository repository, State state) {
+			this.resources = Arrays.stream(state.getBundles())
+					.map(bundle -> new BundleDescriptionRepositoryResource(repository, bundle)).toList();
+		}
+
+		/**
+		 * Returns the capabilities that may match the given requirement, a
+		 * superset of the matching capabilities
+		 */
+		Collection<Capability> candidates(Requirement requirement) {
+			String namespace = requirement.getNamespace();
+			NamespaceIndex index = namespaces.computeIfAbsent(namespace, this::createNamespaceIndex);
+			String value = getPrimaryValue(requirement, index.attribute);
+			if (value == null) {
+				return index.all;
+			}
+			return index.byValue.getOrDefault(value, List.of());
+		}
+
+		private NamespaceIndex createNamespaceIndex(String namespace) {
+			NamespaceIndex index = new NamespaceIndex(
+					SERVICE_NAMESPACE.equals(namespace) ? Constants.OBJECTCLASS : namespace);
+			for (BundleDescriptionRepositoryResource resource : resources) {
+				for (Capability capability : resource.getCapabilities(namespace)) {
+					index.all.add(capability);
+					Object value = capability.getAttributes().get(index.attribute);
+					if (value instanceof Collection<?> values) {
+						for (Object v : values) {
+							index.byValue.computeIfAbsent(String.valueOf(v), v2 -> new ArrayList<>()).add(capability);
+						}
+					} else if (value != null) {
+						index.byValue.computeIfAbsent(String.valueOf(value), v -> new ArrayList<>()).add(capability);
+					}
+				}
+			}
+			return index;
+		}
+
+		/**
+		 * Returns the value the given attribute is required to be equal to by
+		 * the requirement filter, or <code>null</code> if the filter does not
+		 * constrain the attribute to a single value
+		 */
+		private static String getPrimaryValue(Requirement requirement, String attribute) {
+			String filter = requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE);
+			if (filter == null || filter.indexOf('|') >= 0 || filter.indexOf('!') >= 0) {
+				// alternatives or negations may match other values
+				return null;
+			}
+			String prefix = '(' + attribute + '=';
+			int start = filter.indexOf(prefix);
+			if (start < 0) {
+				return null;
+			}
+			start += prefix.length();
+			int end = filter.indexOf(')', start);
+			if (end < 0) {
+				return null;
+			}
+			String value = filter.substring(start, end);
+			if (value.indexOf('*') >= 0 || value.indexOf('\\') >= 0) {
+				return null;
+			}
+			return value;
+		}
+
+		private static final class NamespaceIndex {
+			final String attribute;
+			final List<Capability> all = new ArrayList<>();
+			final Map<String, List<Capability>> byValue = new HashMap<>();
+
+			NamespaceIndex(String attribute) {
+				this.attribute = attribute;
+			}
+		}
+
+	}
+
 	private static final class ContentCapabilityCache {
 
 		private final File file;
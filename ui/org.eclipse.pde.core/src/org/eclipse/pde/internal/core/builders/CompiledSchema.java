@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+
+/**
+ * An extension point schema prepared for validating extensions. The lookups
+ * the validation needs for every element of an extension, i.e. the schema
+ * element by name, the allowed child elements, the attributes by name and the
+ * required attributes, are computed once per schema element and shared by all
+ * extensions and builds.
+ * <p>
+ * Compiled schemas are cached by the URL of the schema and are recompiled when
+ * the {@link ISchema} for the URL is reloaded or its time stamp changes.
+ * </p>
+ */
+final class CompiledSchema {
+
+	private static final Map<String, CompiledSchema> fCache = new ConcurrentHashMap<>();
+
+	private static final ElementInfo MISSING = new ElementInfo(null);
+
+	private final ISchema fSchema;
+	private final long fTimeStamp;
+	private final Map<String, ElementInfo> fElements = new ConcurrentHashMap<>();
+
+	private CompiledSchema(ISchema schema) {
+		fSchema = schema;
+		fTimeStamp = getTimeStamp(schema);
+	}
+
+	/**
+	 * Returns the compiled form of the given schema.
+	 *
+	 * @param schema
+	 *            the schema
+	 * @return the compiled schema, never <code>null</code>
+	 */
+	static CompiledSchema get(ISchema schema) {
+		URL url = schema.getURL();
+		if (url == null) {
+			return new CompiledSchema(schema);
+		}
+		String key = url.toExternalForm();
+		CompiledSchema compiled = fCache.get(key);
+		if (compiled == null || compiled.fSchema != schema || compiled.fTimeStamp != getTimeStamp(schema)) {
+			compiled = new CompiledSchema(schema);
+			fCache.put(key, compiled);
+		}
+		return compiled;
+	}
+
+	private static long getTimeStamp(ISchema schema) {
+		ISchemaDescriptor descriptor = schema.getSchemaDescriptor();
+		return descriptor != null ? descriptor.getLastModified() : -1;
+	}
+
+	/**
+	 * Returns the element with the given name, as found by
+	 * {@link ISchema#findElement(String)}.
+	 *
+	 * @param name
+	 *            the element name
+	 * @return the element or <code>null</code> if the schema does not define
+	 *         such an element
+	 */
+	ElementInfo getElement(String name) {
+		ElementInfo info = fElements.computeIfAbsent(name, n -> {
+			ISchemaElement element = fSchema.findElement(n);
+			return element != null ? new ElementInfo(element) : MISSING;
+		});
+		return info != MISSING ? info : null;
+	}
+
+	/**
+	 * The precomputed validation data of a single schema element.
+	 */
+	static final class ElementInfo {
+
+		private final ISchemaElement fElement;
+		private final boolean fHasContentModel;
+		private final Set<String> fAllowedElements;
+		private final Map<String, ISchemaAttribute> fAttributes;
+		private final ISchemaAttribute[] fRequiredAttributes;
+
+		ElementInfo(ISchemaElement element) {
+			fElement = element;
+			if (element == null) {
+				fHasContentModel = false;
+				fAllowedElements = Set.of();
+				fAttributes = Map.of();
+				fRequiredAttributes = new ISchemaAttribute[0];
+				return;
+			}
+			ISchemaType type = element.getType();
+			fHasContentModel = type instanceof ISchemaComplexType complexType && complexType.getCompositor() != null;
+
+			Set<String> allowedElements = new HashSet<>();
+			Map<String, ISchemaAttribute> attributes = new HashMap<>();
+			List<ISchemaAttribute> required = new ArrayList<>();
+			if (type instanceof ISchemaComplexType complexType) {
+				ISchemaCompositor compositor = complexType.getCompositor();
+				if (compositor != null) {
+					addAllowedElements(compositor, allowedElements);
+				}
+				for (ISchemaAttribute attr : complexType.getAttributes()) {
+					if (attr.getName() == null) {
+						continue;
+					}
+					if (attr.getKind() == IMetaAttribute.JAVA) {
+						allowedElements.add(attr.getName());
+					}
+					attributes.putIfAbsent(attr.getName(), attr);
+					if (attr.getUse() == ISchemaAttribute.REQUIRED) {
+						required.add(attr);
+					}
+				}
+			}
+			fAllowedElements = Set.copyOf(allowedElements);
+			fAttributes = Map.copyOf(attributes);
+			fRequiredAttributes = required.toArray(new ISchemaAttribute[required.size()]);
+		}
+
+		private static void addAllowedElements(ISchemaCompositor compositor, Set<String> elementSet) {
+			for (ISchemaObject child : compositor.getChildren()) {
+				if (child instanceof ISchemaObjectReference ref) {
+					ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
+					if (refElement != null && refElement.getName() != null) {
+						elementSet.add(refElement.getName());
+					}
+				} else if (child instanceof ISchemaCompositor childCompositor) {
+					addAllowedElements(childCompositor, elementSet);
+				}
+			}
+		}
+
+		ISchemaElement getElement() {
+			return fElement;
+		}
+
+		/**
+		 * @return whether the element defines child elements whose
+		 *         occurrences need to be checked
+		 */
+		boolean hasContentModel() {
+			return fHasContentModel;
+		}
+
+		/**
+		 * @return whether an element or java attribute with the given name is
+		 *         allowed as child of this element
+		 */
+		boolean isAllowedChild(String name) {
+			return fAllowedElements.contains(name);
+		}
+
+		ISchemaAttribute getAttribute(String name) {
+			return fAttributes.get(name);
+		}
+
+		ISchemaAttribute[] getRequiredAttributes() {
+			return fRequiredAttributes;
+		}
+	}
+}
@@ -0,0 +1,309 @@
+/*******************************************************************************
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.StateCache;
+
+/**
+ * Finds dependency cycles between the bundles of a resolved {@link State}.
+ * <p>
+ * The Require-Bundle (and optionally Import-Package) graph is built once and
+ * its strongly connected components are computed with Tarjan's algorithm in
+ * time linear to the size of the graph. Every bundle that is part of a
+ * component with more than one member is part of at least one cycle. The
+ * cycles reported for a bundle are the shortest cycles through each of its
+ * direct dependencies within its component.
+ * </p>
+ */
+public final class DependencyCycles {
+
+	private static final StateCache<DependencyCycles> fRequireBundleCycles = new StateCache<>(
+			state -> new DependencyCycles(Arrays.asList(state.getBundles()), false));
+	private static final StateCache<DependencyCycles> fAllCycles = new StateCache<>(
+			state -> new DependencyCycles(Arrays.asList(state.getBundles()), true));
+
+	private final boolean fIncludeImportPackage;
+
+	private final BundleDescription[] fNodes;
+	private final Map<BundleDescription, Integer> fIds;
+	private final int[][] fSuccessors;
+	/** component of each node, -1 if the node is not part of a cycle */
+	private final int[] fComponentOf;
+	private final List<BundleDescription[]> fComponents = new ArrayList<>();
+
+	private DependencyCycles(Collection<BundleDescription> bundles, boolean includeImportPackage) {
+		fIncludeImportPackage = includeImportPackage;
+		fNodes = bundles.toArray(BundleDescription[]::new);
+		fIds = new HashMap<>(fNodes.length * 4 / 3 + 1);
+		for (int i = 0; i < fNodes.length; i++) {
+			fIds.put(fNodes[i], i);
+		}
+		fSuccessors = new int[fNodes.length][];
+		for (int i = 0; i < fNodes.length; i++) {
+			fSuccessors[i] = computeSuccessors(fNodes[i]);
+		}
+		fComponentOf = new int[fNodes.length];
+		Arrays.fill(fComponentOf, -1);
+		computeComponents();
+	}
+
+	/**
+	 * Returns the dependency cycles of the given state. The result is cached
+	 * until the state is modified.
+	 *
+	 * @param state
+	 *            the resolved state
+	 * @param includeImportPackage
+	 *            whether Import-Package dependencies are edges of the graph in
+	 *            addition to Require-Bundle dependencies
+	 * @return the dependency cycles of the state
+	 */
+	public static DependencyCycles analyze(State state, boolean includeImportPackage) {
+		return (includeImportPackage ? fAllCycles : fRequireBundleCycles).get(state);
+	}
+
+	/**
+	 * Returns the dependency cycles between the given bundles. Dependencies on
+	 * bundles that are not part of the collection are ignored.
+	 *
+	 * @param bundles
+	 *            the bundles to analyze
+	 * @param includeImportPackage
+	 *            whether Import-Package dependencies are edges of the graph in
+	 *            addition to Require-Bundle dependencies
+	 * @return the dependency cycles between the bundles
+	 */
+	public static DependencyCycles analyze(Collection<BundleDescription> bundles, boolean includeImportPackage) {
+		return new DependencyCycles(bundles, includeImportPackage);
+	}
+
+	private int[] computeSuccessors(BundleDescription desc) {
+		Set<Integer> successors = new LinkedHashSet<>();
+		for (BundleSpecification spec : desc.getRequiredBundles()) {
+			addSuccessor(desc, spec.getSupplier(), successors);
+		}
+		if (fIncludeImportPackage) {
+			for (ImportPackageSpecification spec : desc.getImportPackages()) {
+				if (spec.getSupplier() instanceof ExportPackageDescription export) {
+					addSuccessor(desc, export.getExporter(), successors);
+				}
+			}
+		}
+		return successors.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private void addSuccessor(BundleDescription desc, BaseDescription supplier, Set<Integer> successors) {
+		if (supplier instanceof BundleDescription bundle && bundle != desc) {
+			Integer id = fIds.get(bundle);
+			if (id != null) {
+				successors.add(id);
+			}
+		}
+	}
+
+	/**
+	 * Iterative version of Tarjan's algorithm, records all components with
+	 * more than one member.
+	 */
+	private void computeComponents() {
+		int n = fNodes.length;
+		int[] index = new int[n];
+		Arrays.fill(index, -1);
+		int[] lowLink = new int[n];
+		boolean[] onStack = new boolean[n];
+		int[] stack = new int[n];
+		int stackSize = 0;
+		int[] callStack = new int[n];
+		int[] nextEdge = new int[n];
+		int counter = 0;
+
+		for (int root = 0; root < n; root++) {
+			if (index[root] != -1) {
+				continue;
+			}
+			int callDepth = 0;
+			callStack[callDepth++] = root;
+			index[root] = lowLink[root] = counter++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+			while (callDepth > 0) {
+				int v = callStack[callDepth - 1];
+				if (nextEdge[v] < fSuccessors[v].length) {
+					int w = fSuccessors[v][nextEdge[v]++];
+					if (index[w] == -1) {
+						index[w] = lowLink[w] = counter++;
+						stack[stackSize++] = w;
+						onStack[w] = true;
+						callStack[callDepth++] = w;
+					} else if (onStack[w]) {
+						lowLink[v] = Math.min(lowLink[v], index[w]);
+					}
+					continue;
+				}
+				callDepth--;
+				if (callDepth > 0) {
+					int parent = callStack[callDepth - 1];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+				}
+				if (lowLink[v] == index[v]) {
+					List<BundleDescription> component = new ArrayList<>();
+					int w;
+					do {
+						w = stack[--stackSize];
+						onStack[w] = false;
+						component.add(fNodes[w]);
+					} while (w != v);
+					if (component.size() > 1) {
+						int componentId = fComponents.size();
+						for (BundleDescription member : component) {
+							fComponentOf[fIds.get(member)] = componentId;
+						}
+						fComponents.add(component.toArray(BundleDescription[]::new));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns all groups of bundles that depend on each other, i.e. the
+	 * strongly connected components of the dependency graph with more than one
+	 * member.
+	 *
+	 * @return the cyclic components, may be empty
+	 */
+	public List<BundleDescription[]> getCyclicComponents() {
+		return fComponents;
+	}
+
+	/**
+	 * Returns whether the given bundle is part of a dependency cycle.
+	 *
+	 * @param desc
+	 *            the bundle
+	 * @return <code>true</code> if the bundle is part of a cycle
+	 */
+	public boolean isInCycle(BundleDescription desc) {
+		Integer id = fIds.get(desc);
+		return id != null && fComponentOf[id] != -1;
+	}
+
+	/**
+	 * Returns the shortest cycle through the given bundle and each of its
+	 * direct dependencies that are part of the same component. Each cycle
+	 * starts with the given bundle, which is not repeated at the end.
+	 *
+	 * @param desc
+	 *            the bundle
+	 * @return the cycles through the bundle, may be empty
+	 */
+	public List<BundleDescription[]> getCycles(BundleDescription desc) {
+		Integer id = fIds.get(desc);
+		if (id == null || fComponentOf[id] == -1) {
+			return List.of();
+		}
+		int root = id;
+		int component = fComponentOf[root];
+		List<BundleDescription[]> cycles = new ArrayList<>();
+		Set<List<BundleDescription>> found = new LinkedHashSet<>();
+		int[] parent = new int[fNodes.length];
+		int[] queue = new int[fNodes.length];
+		for (int first : fSuccessors[root]) {
+			if (fComponentOf[first] != component) {
+				continue;
+			}
+			// breadth-first search for the shortest path from first back to root
+			Arrays.fill(parent, -2);
+			parent[first] = -1;
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = first;
+			int last = -1;
+			search: while (head < tail) {
+				int v = queue[head++];
+				for (int w : fSuccessors[v]) {
+					if (w == root) {
+						last = v;
+						break search;
+					}
+					if (fComponentOf[w] == component && parent[w] == -2) {
+						parent[w] = v;
+						queue[tail++] = w;
+					}
+				}
+			}
+			if (last == -1) {
+				continue;
+			}
+			List<BundleDescription> path = new ArrayList<>();
+			for (int v = last; v != -1; v = parent[v]) {
+				path.add(fNodes[v]);
+			}
+			path.add(desc);
+			Collections.reverse(path);
+			if (found.add(path)) {
+				cycles.add(path.toArray(BundleDescription[]::new));
+			}
+		}
+		return cycles;
+	}
+
+	/**
+	 * Returns the cycles through the given bundle as {@link DependencyLoop}s of
+	 * the bundle's plug-in models.
+	 *
+	 * @param desc
+	 *            the bundle
+	 * @return the loops through the bundle, may be empty
+	 */
+	public DependencyLoop[] getLoops(BundleDescription desc) {
+		List<DependencyLoop> loops = new ArrayList<>();
+		cycles: for (BundleDescription[] cycle : getCycles(desc)) {
+			IPluginBase[] members = new IPluginBase[cycle.length];
+			for (int i = 0; i < cycle.length; i++) {
+				IPluginModelBase model = PluginRegistry.findModel(cycle[i]);
+				if (model == null) {
+					continue cycles;
+				}
+				members[i] = model.getPluginBase();
+			}
+			DependencyLoop loop = new DependencyLoop();
+			loop.setMembers(members);
+			loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + (loops.size() + 1)))); //$NON-NLS-1$
+			loops.add(loop);
+		}
+		return loops.toArray(new DependencyLoop[loops.size()]);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
-import java.util.Vector;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPlugin;
@@ -25,6 +28,11 @@ import org.eclipse.pde.internal.core.PDECoreMessages;
 
 public class DependencyLoopFinder {
 
+	/**
+	 * Returns the dependency loops through the given plug-in, following the
+	 * imports of the plug-in models including optional and unresolved ones.
+	 * Use {@link DependencyCycles} to find the loops of a resolved state.
+	 */
 	public static DependencyLoop[] findLoops(IPlugin root) {
 		return findLoops(root, null);
 	}
@@ -34,19 +42,19 @@ public class DependencyLoopFinder {
 	}
 
 	public static DependencyLoop[] findLoops(IPlugin root, IPlugin[] candidates, boolean onlyCandidates) {
-		Vector<DependencyLoop> loops = new Vector<>();
+		List<DependencyLoop> loops = new ArrayList<>();
 
-		Vector<IPlugin> path = new Vector<>();
-		findLoops(loops, path, root, candidates, onlyCandidates, new Vector<>());
+		List<IPlugin> path = new ArrayList<>();
+		findLoops(loops, path, root, candidates, onlyCandidates, new HashSet<>());
 		return loops.toArray(new DependencyLoop[loops.size()]);
 	}
 
-	private static void findLoops(Vector<DependencyLoop> loops, Vector<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Vector<String> exploredPlugins) {
+	private static void findLoops(List<DependencyLoop> loops, List<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Set<String> exploredPlugins) {
 		if (!path.isEmpty()) {
 			// test the path so far
 			// is the subroot the same as root - if yes, that's it
 
-			IPlugin root = path.elementAt(0);
+			IPlugin root = path.get(0);
 			if (isEquivalent(root, subroot)) {
 				// our loop!!
 				DependencyLoop loop = new DependencyLoop();
@@ -59,16 +67,16 @@ public class DependencyLoopFinder {
 			// is the subroot the same as any other node?
 			// if yes, abort - local loop that is not ours
 			for (int i = 1; i < path.size(); i++) {
-				IPlugin node = path.elementAt(i);
+				IPlugin node = path.get(i);
 				if (isEquivalent(subroot, node)) {
 					// local loop
 					return;
 				}
 			}
 		}
-		@SuppressWarnings("unchecked")
-		Vector<IPlugin> newPath = !path.isEmpty() ? ((Vector<IPlugin>) path.clone()) : path;
-		newPath.add(subroot);
+		// the path is extended while the subroot is traversed and restored
+		// afterwards, instead of being copied for each step
+		path.add(subroot);
 
 		if (!onlyCandidates) {
 			IPluginImport[] iimports = subroot.getImports();
@@ -90,7 +98,7 @@ public class DependencyLoopFinder {
 						// number of loops before traversing plugin
 						int oldLoopSize = loops.size();
 
-						findLoops(loops, newPath, child, null, false, exploredPlugins);
+						findLoops(loops, path, child, null, false, exploredPlugins);
 
 						// number of loops after traversing plugin
 						int newLoopsSize = loops.size();
@@ -110,7 +118,7 @@ public class DependencyLoopFinder {
 				// number of loops before traversing plugin
 				int oldLoopSize = loops.size();
 
-				findLoops(loops, newPath, candidate, null, false, exploredPlugins);
+				findLoops(loops, path, candidate, null, false, exploredPlugins);
 
 				// number of loops after traversing plugin
 				int newLoopsSize = loops.size();
@@ -121,7 +129,7 @@ public class DependencyLoopFinder {
 				}
 			}
 		}
-
+		path.remove(path.size() - 1);
 	}
 
 	private static IPlugin findPlugin(String id) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,18 @@
 package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -48,21 +55,14 @@ import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMa
 import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
-import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
-import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
-import org.eclipse.pde.internal.core.ischema.ISchemaObject;
-import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
 import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
 import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
-import org.eclipse.pde.internal.core.ischema.ISchemaType;
 import org.eclipse.pde.internal.core.project.PDEProject;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
-import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.core.util.IdUtil;
-import org.eclipse.pde.internal.core.util.PDEJavaHelper;
 import org.eclipse.pde.internal.core.util.PDESchemaHelper;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Element;
@@ -78,6 +78,17 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	 */
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
+	/** schemas by extension point id, looked up once per validation */
+	private final Map<String, ISchema> fSchemas = new HashMap<>();
+	/** java attributes collected during validation, resolved together at the end */
+	private final List<JavaReference> fJavaReferences = new ArrayList<>();
+	/** existence of resources by location, checked once per validation */
+	private final Map<String, Boolean> fResources = new HashMap<>();
+	/** entry names of bundle jars, read once per validation */
+	private final Map<String, Set<String>> fJarEntries = new HashMap<>();
+
+	private record JavaReference(Element element, Attr attr) {
+	}
 
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
@@ -149,6 +160,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			 }
 			}
 		}
+		validateJavaReferences();
 	}
 
 	protected void validateExtension(Element element) {
@@ -163,8 +175,14 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNRESOLVED_EX_POINTS);
 			}
 		} else {
-			SchemaRegistry reg = PDECore.getDefault().getSchemaRegistry();
-			ISchema schema = reg.getSchema(pointID);
+			ISchema schema;
+			if (fSchemas.containsKey(pointID)) {
+				schema = fSchemas.get(pointID);
+			} else {
+				SchemaRegistry reg = PDECore.getDefault().getSchemaRegistry();
+				schema = reg.getSchema(pointID);
+				fSchemas.put(pointID, schema);
+			}
 			if (schema != null) {
 				validateElement(element, schema, true);
 			}
@@ -188,19 +206,24 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	}
 
 	protected void validateElement(Element element, ISchema schema, boolean isTopLevel) {
+		validateElement(element, CompiledSchema.get(schema), isTopLevel);
+	}
+
+	private void validateElement(Element element, CompiledSchema schema, boolean isTopLevel) {
 		String elementName = element.getNodeName();
-		ISchemaElement schemaElement = schema.findElement(elementName);
+		CompiledSchema.ElementInfo elementInfo = schema.getElement(elementName);
+		ISchemaElement schemaElement = elementInfo != null ? elementInfo.getElement() : null;
 
 		// Validate element occurrence violations
-		if ((schemaElement != null) && (schemaElement.getType() instanceof ISchemaComplexType)) {
+		if (elementInfo != null && elementInfo.hasContentModel()) {
 			validateMaxElementMult(element, schemaElement);
 			validateMinElementMult(element, schemaElement);
 		}
 
-		ISchemaElement parentSchema = null;
+		CompiledSchema.ElementInfo parentInfo = null;
 		if (!"extension".equals(elementName)) { //$NON-NLS-1$
 			Node parent = element.getParentNode();
-			parentSchema = schema.findElement(parent.getNodeName());
+			parentInfo = schema.getElement(parent.getNodeName());
 		} else if (isTopLevel == false) {
 			// This is an "extension" element; but, not a top level one.
 			// It is nested within another "extension" element somewhere
@@ -213,20 +236,18 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			return;
 		}
 
-		if (parentSchema != null) {
+		if (parentInfo != null) {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 			if (severity != CompilerFlags.IGNORE) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(parentSchema.getType(), allowedElements);
-				if (!allowedElements.contains(elementName)) {
+				if (!parentInfo.isAllowedChild(elementName)) {
 					reportIllegalElement(element, severity);
 					return;
 				}
 			}
 
 		}
-		if (schemaElement == null && parentSchema != null) {
-			ISchemaAttribute attr = parentSchema.getAttribute(elementName);
+		if (schemaElement == null && parentInfo != null) {
+			ISchemaAttribute attr = parentInfo.getAttribute(elementName);
 			if (attr != null && attr.getKind() == IMetaAttribute.JAVA) {
 				if (attr.isDeprecated()) {
 					reportDeprecatedAttribute(element, element.getAttributeNode("class")); //$NON-NLS-1$
@@ -235,8 +256,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			}
 		} else {
 			if (schemaElement != null) {
-				validateRequiredExtensionAttributes(element, schemaElement);
-				validateExistingExtensionAttributes(element, element.getAttributes(), schemaElement);
+				validateRequiredExtensionAttributes(element, elementInfo);
+				validateExistingExtensionAttributes(element, element.getAttributes(), elementInfo);
 				validateInternalExtensionAttribute(element, schemaElement);
 				if (schemaElement.isDeprecated()) {
 					if (schemaElement instanceof ISchemaRootElement) {
@@ -249,7 +270,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					validateTranslatableElementContent(element);
 				}
 				// Bug 213457 - look up elements based on the schema in which the parent is found
-				schema = schemaElement.getSchema();
+				schema = CompiledSchema.get(schemaElement.getSchema());
 			}
 			NodeList children = element.getChildNodes();
 			for (int i = 0; i < children.getLength(); i++) {
@@ -309,70 +330,35 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	private void computeAllowedElements(ISchemaType type, HashSet<String> elementSet) {
-		if (type instanceof ISchemaComplexType complexType) {
-			ISchemaCompositor compositor = complexType.getCompositor();
-			if (compositor != null) {
-				computeAllowedElements(compositor, elementSet);
-			}
-
-			ISchemaAttribute[] attrs = complexType.getAttributes();
-			for (ISchemaAttribute attr : attrs) {
-				if (attr.getKind() == IMetaAttribute.JAVA) {
-					elementSet.add(attr.getName());
-				}
-			}
-		}
-	}
-
-	private void computeAllowedElements(ISchemaCompositor compositor, HashSet<String> elementSet) {
-		ISchemaObject[] children = compositor.getChildren();
-		for (ISchemaObject child : children) {
-			if (child instanceof ISchemaObjectReference ref) {
-				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
-				if (refElement != null) {
-					elementSet.add(refElement.getName());
-				}
-			} else if (child instanceof ISchemaCompositor) {
-				computeAllowedElements((ISchemaCompositor) child, elementSet);
-			}
-		}
-	}
-
-	private void validateRequiredExtensionAttributes(Element element, ISchemaElement schemaElement) {
+	private void validateRequiredExtensionAttributes(Element element, CompiledSchema.ElementInfo elementInfo) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_NO_REQUIRED_ATT);
 		if (severity == CompilerFlags.IGNORE) {
 			return;
 		}
 
-		ISchemaAttribute[] attInfos = schemaElement.getAttributes();
-		for (ISchemaAttribute attInfo : attInfos) {
-			if (attInfo.getUse() == ISchemaAttribute.REQUIRED) {
-				boolean found = element.getAttributeNode(attInfo.getName()) != null;
-				if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
-					NodeList children = element.getChildNodes();
-					for (int j = 0; j < children.getLength(); j++) {
-						if (attInfo.getName().equals(children.item(j).getNodeName())) {
-							found = true;
-							break;
-						}
+		for (ISchemaAttribute attInfo : elementInfo.getRequiredAttributes()) {
+			boolean found = element.getAttributeNode(attInfo.getName()) != null;
+			if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
+				NodeList children = element.getChildNodes();
+				for (int j = 0; j < children.getLength(); j++) {
+					if (attInfo.getName().equals(children.item(j).getNodeName())) {
+						found = true;
+						break;
 					}
 				}
-				if (!found) {
-					reportMissingRequiredAttribute(element, attInfo.getName(), severity);
-				}
+			}
+			if (!found) {
+				reportMissingRequiredAttribute(element, attInfo.getName(), severity);
 			}
 		}
 	}
 
-	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ISchemaElement schemaElement) {
+	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, CompiledSchema.ElementInfo elementInfo) {
 		for (int i = 0; i < attrs.getLength(); i++) {
 			Attr attr = (Attr) attrs.item(i);
-			ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
+			ISchemaAttribute attInfo = elementInfo.getAttribute(attr.getName());
 			if (attInfo == null) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(schemaElement.getType(), allowedElements);
-				if (allowedElements.contains(attr.getName())) {
+				if (elementInfo.isAllowedChild(attr.getName())) {
 					validateJavaAttribute(element, attr);
 				} else {
 					int flag = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ATTRIBUTE);
@@ -526,6 +512,10 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	}
 
 	private boolean resourceExists(String location) {
+		return fResources.computeIfAbsent(location, this::computeResourceExists);
+	}
+
+	private boolean computeResourceExists(String location) {
 		String bundleJar = null;
 		IPath path = IPath.fromOSString(location);
 		if ("platform:".equals(path.getDevice()) && path.segmentCount() > 2) { //$NON-NLS-1$
@@ -589,7 +579,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					return true;
 				}
 			} else {
-				if (CoreUtility.jarContainsResource(new File(bundleJar), paths.get(i), false)) {
+				if (jarContainsResource(bundleJar, paths.get(i))) {
 					return true;
 				}
 			}
@@ -598,40 +588,79 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		return false;
 	}
 
-	protected void validateJavaAttribute(Element element, Attr attr) {
-		String value = attr.getValue();
-		IJavaProject javaProject = JavaCore.create(fFile.getProject());
+	private boolean jarContainsResource(String bundleJar, String resource) {
+		Set<String> entries = fJarEntries.computeIfAbsent(bundleJar, jar -> {
+			try (ZipFile jarFile = new ZipFile(new File(jar), ZipFile.OPEN_READ)) {
+				return jarFile.stream().map(ZipEntry::getName).collect(Collectors.toSet());
+			} catch (IOException e) {
+				PDECore.logException(e);
+				return Set.of();
+			}
+		});
+		return entries.contains(resource) || entries.contains(resource + '/');
+	}
 
-		// be careful: people have the option to use the format:
-		// fullqualifiedName:staticMethod
-		int index = value.indexOf(':');
-		if (index != -1) {
-			value = value.substring(0, index);
+	/**
+	 * Records the given java attribute for validation. The referenced types of
+	 * all recorded attributes are resolved together by
+	 * {@link #validateJavaReferences()} at the end of the validation.
+	 */
+	protected void validateJavaAttribute(Element element, Attr attr) {
+		if (attr != null) {
+			fJavaReferences.add(new JavaReference(element, attr));
 		}
+	}
 
-		// assume we're on the classpath already
-		boolean onClasspath = true;
-		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_CLASS);
-		if (severity != CompilerFlags.IGNORE && javaProject.isOpen()) {
-			onClasspath = PDEJavaHelper.isOnClasspath(value, javaProject);
-			if (!onClasspath) {
-				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_class, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.P_UNKNOWN_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_FATAL);
-				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_CLASS);
-			}
+	/**
+	 * Resolves the types referenced by all recorded java attributes at once
+	 * and reports the ones that are not on the classpath or are discouraged.
+	 */
+	protected void validateJavaReferences() {
+		if (fJavaReferences.isEmpty()) {
+			return;
 		}
+		List<JavaReference> references = new ArrayList<>(fJavaReferences);
+		fJavaReferences.clear();
 
-		severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DISCOURAGED_CLASS);
-		if (severity != CompilerFlags.IGNORE && javaProject.isOpen()) {
-			if (fModel == null) {
-				return;
-			}
-			BundleDescription desc = fModel.getBundleDescription();
-			if (desc == null) {
-				return;
+		IJavaProject javaProject = JavaCore.create(fFile.getProject());
+		int unknownSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_CLASS);
+		int discouragedSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DISCOURAGED_CLASS);
+		if (!javaProject.isOpen()
+				|| (unknownSeverity == CompilerFlags.IGNORE && discouragedSeverity == CompilerFlags.IGNORE)) {
+			return;
+		}
+		BundleDescription desc = fModel != null ? fModel.getBundleDescription() : null;
+
+		List<String> classNames = new ArrayList<>(references.size());
+		for (JavaReference reference : references) {
+			// be careful: people have the option to use the format:
+			// fullqualifiedName:staticMethod
+			String value = reference.attr().getValue();
+			int index = value.indexOf(':');
+			classNames.add(index != -1 ? value.substring(0, index) : value);
+		}
+		ReferencedTypeResolver resolver = new ReferencedTypeResolver(javaProject);
+		resolver.resolve(classNames);
+
+		for (int i = 0; i < references.size(); i++) {
+			Element element = references.get(i).element();
+			Attr attr = references.get(i).attr();
+			String value = classNames.get(i);
+
+			// assume we're on the classpath already
+			boolean onClasspath = true;
+			if (unknownSeverity != CompilerFlags.IGNORE) {
+				onClasspath = resolver.exists(value);
+				if (!onClasspath) {
+					VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_class, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), unknownSeverity, PDEMarkerFactory.P_UNKNOWN_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_FATAL);
+					addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_CLASS);
+				}
 			}
+
 			// only check if we're discouraged if there is something on the classpath
-			if (onClasspath && PDEJavaHelper.isDiscouraged(value, javaProject, desc)) {
-				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_discouragedClass, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.M_DISCOURAGED_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_OTHER);
+			if (discouragedSeverity != CompilerFlags.IGNORE && desc != null && onClasspath
+					&& resolver.isDiscouraged(value, desc)) {
+				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_discouragedClass, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), discouragedSeverity, PDEMarkerFactory.M_DISCOURAGED_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_OTHER);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_DISCOURAGED_CLASS);
 			}
 		}
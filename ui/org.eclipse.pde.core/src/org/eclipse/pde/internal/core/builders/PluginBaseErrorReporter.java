@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,7 @@ public abstract class PluginBaseErrorReporter extends ExtensionsErrorReporter {
 				}
 			}
 		}
+		validateJavaReferences();
 	}
 
 	protected void validateTopLevelAttributes(Element element) {
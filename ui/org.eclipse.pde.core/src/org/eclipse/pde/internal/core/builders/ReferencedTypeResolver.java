@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateHelper;
+import org.eclipse.pde.internal.core.util.PDEJavaHelper;
+
+/**
+ * Resolves the java types referenced by the manifest files of a project during
+ * one build. All referenced class names are collected first and then resolved
+ * together, so every distinct type is looked up only once. The data needed to
+ * decide whether a type is discouraged, i.e. the project's own packages and
+ * the discouraged packages visible to the bundle, is computed once for all
+ * types instead of once per reference.
+ * <p>
+ * The results reflect the java model at the time of the build and must not be
+ * kept beyond it.
+ * </p>
+ *
+ * @see PDEJavaHelper#isOnClasspath(String, IJavaProject)
+ * @see PDEJavaHelper#isDiscouraged(String, IJavaProject, BundleDescription)
+ */
+final class ReferencedTypeResolver {
+
+	private final IJavaProject fProject;
+	private final Map<String, IType> fTypes = new HashMap<>();
+	private Set<IPackageFragment> fProjectFragments;
+	private final Map<BundleDescription, Set<String>> fDiscouragedPackages = new HashMap<>();
+
+	ReferencedTypeResolver(IJavaProject project) {
+		fProject = project;
+	}
+
+	/**
+	 * Looks up all given types that have not been resolved yet.
+	 *
+	 * @param classNames
+	 *            fully qualified class names, nested types may be separated
+	 *            by <code>$</code>
+	 */
+	void resolve(Collection<String> classNames) {
+		for (String className : classNames) {
+			if (!fTypes.containsKey(className)) {
+				// missing types are kept as null values
+				fTypes.put(className, findType(className));
+			}
+		}
+	}
+
+	private IType findType(String className) {
+		try {
+			IType type = fProject.findType(className.replace('$', '.'));
+			return type != null && type.exists() ? type : null;
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return whether the given type exists on the classpath of the project
+	 */
+	boolean exists(String className) {
+		if (!fTypes.containsKey(className)) {
+			resolve(Collections.singleton(className));
+		}
+		return fTypes.get(className) != null;
+	}
+
+	/**
+	 * @return whether the given type is contained in a package the bundle
+	 *         only has discouraged access to. Types of the project itself are
+	 *         never discouraged.
+	 */
+	boolean isDiscouraged(String className, BundleDescription desc) {
+		if (exists(className) && getProjectFragments().contains(fTypes.get(className).getPackageFragment())) {
+			return false;
+		}
+		int dot = className.lastIndexOf('.');
+		String packageName = dot != -1 ? className.substring(0, dot) : "."; //$NON-NLS-1$
+		return getDiscouragedPackages(desc).contains(packageName);
+	}
+
+	private Set<IPackageFragment> getProjectFragments() {
+		if (fProjectFragments == null) {
+			fProjectFragments = new HashSet<>(
+					PDEJavaHelper.getPackageFragmentsHash(fProject, Collections.emptyList(), false).values());
+		}
+		return fProjectFragments;
+	}
+
+	private Set<String> getDiscouragedPackages(BundleDescription desc) {
+		return fDiscouragedPackages.computeIfAbsent(desc, d -> {
+			Set<String> packages = new HashSet<>();
+			State state = d.getContainingState();
+			if (state == null) {
+				return packages;
+			}
+			StateHelper helper = state.getStateHelper();
+			for (ExportPackageDescription export : helper.getVisiblePackages(d)) {
+				if (export.getExporter() != null
+						&& helper.getAccessCode(d, export) == StateHelper.ACCESS_DISCOURAGED) {
+					packages.add(export.getName());
+				}
+			}
+			return packages;
+		});
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2009 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,12 @@ public class FeatureExportInfo {
 	public boolean exportMetadata;
 	public boolean allowBinaryCycles;
 	public boolean useWorkspaceCompiledClasses;
+	/**
+	 * Whether workspace plug-ins that did not change since a previous export
+	 * are taken from the jars produced by that export instead of being built
+	 * again. Not supported when exporting source.
+	 */
+	public boolean reuseUnchangedBundles;
 	public String destinationDirectory;
 	public String zipFileName;
 	public String qualifier;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -120,6 +120,7 @@ public class FeatureExportOperation extends Job {
 	protected WorkspaceExportHelper fWorkspaceExportHelper;
 
 	protected State fStateCopy;
+	private IncrementalExportCache fExportCache;
 
 	protected static final String FEATURE_POST_PROCESSING = "features.postProcessingSteps.properties"; //$NON-NLS-1$
 	protected static final String PLUGIN_POST_PROCESSING = "plugins.postProcessingSteps.properties"; //$NON-NLS-1$
@@ -329,20 +330,102 @@ public class FeatureExportOperation extends Job {
 
 		}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
-					properties, subMonitor.split(2));
-		}
+		if (configs.length > 1 && !publishingP2Metadata()) {
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
+			runParallelAssembly(featureID, featureLocation, configs, properties, subMonitor.split(configs.length * 4));
+		} else {
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
+						properties, subMonitor.split(2));
+			}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			}
 		}
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
+
+		if (fExportCache != null && !hasAntErrors()) {
+			fExportCache.store(new File(fBuildTempLocation));
+		}
+	}
+
+	/**
+	 * Assembles and packages the given configurations concurrently. The
+	 * compiled bundles are shared by all configurations, so only the assembly
+	 * and packager scripts run once per configuration. They are called from a
+	 * generated script through an Ant <code>parallel</code> task, with the
+	 * archive location and a separate assembly directory passed to each
+	 * configuration.
+	 * <p>
+	 * Must not be used when publishing p2 metadata, as the configurations
+	 * would publish to the same build repository.
+	 * </p>
+	 */
+	private void runParallelAssembly(String featureID, String featureLocation, String[][] configs,
+			Map<String, String> properties, IProgressMonitor monitor) throws CoreException {
+		Map<String, String> sharedProperties = new HashMap<>(properties);
+		// passed per configuration, user properties can't be overridden
+		sharedProperties.remove(IXMLConstants.PROPERTY_ARCHIVE_FULLPATH);
+		sharedProperties.remove(IXMLConstants.PROPERTY_ASSEMBLY_TMP);
+
+		File scriptFile = new File(featureLocation, "assemble." + featureID + ".parallel.xml"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			@SuppressWarnings("restriction")
+			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+			Element root = doc.createElement("project"); //$NON-NLS-1$
+			root.setAttribute("name", "parallel.assembly"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("default", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			doc.appendChild(root);
+
+			Element target = doc.createElement("target"); //$NON-NLS-1$
+			target.setAttribute("name", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.appendChild(target);
+			Element parallel = doc.createElement("parallel"); //$NON-NLS-1$
+			int threads = Math.min(configs.length, Runtime.getRuntime().availableProcessors());
+			parallel.setAttribute("threadCount", Integer.toString(threads)); //$NON-NLS-1$
+			parallel.setAttribute("failonany", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+			target.appendChild(parallel);
+
+			for (String[] config : configs) {
+				Map<String, String> configProperties = new HashMap<>();
+				setArchiveLocation(configProperties, config[0], config[1], config[2]);
+				if (!fInfo.toDirectory) {
+					configProperties.put(IXMLConstants.PROPERTY_ASSEMBLY_TMP, fBuildTempLocation + "/assembly/" + config[0] + '.' + config[1] + '.' + config[2]); //$NON-NLS-1$
+				}
+				Element sequential = doc.createElement("sequential"); //$NON-NLS-1$
+				sequential.appendChild(createAntCall(doc, getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), "main", configProperties)); //$NON-NLS-1$
+				sequential.appendChild(createAntCall(doc, getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, configProperties));
+				parallel.appendChild(sequential);
+			}
+			XMLPrintHandler.writeFile(doc, scriptFile);
+		} catch (FactoryConfigurationError | ParserConfigurationException | IOException e) {
+			throw new CoreException(Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e));
+		}
+		runScript(scriptFile.getAbsolutePath(), new String[] {"main"}, sharedProperties, monitor); //$NON-NLS-1$
+	}
+
+	private Element createAntCall(Document doc, String script, String target, Map<String, String> properties) {
+		Element ant = doc.createElement("ant"); //$NON-NLS-1$
+		ant.setAttribute("antfile", script); //$NON-NLS-1$
+		if (target != null) {
+			ant.setAttribute("target", target); //$NON-NLS-1$
+		}
+		ant.setAttribute("inheritAll", "false"); //$NON-NLS-1$ //$NON-NLS-2$
+		ant.setAttribute("useNativeBasedir", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.forEach((name, value) -> {
+			Element property = doc.createElement("property"); //$NON-NLS-1$
+			property.setAttribute("name", name); //$NON-NLS-1$
+			property.setAttribute("value", value); //$NON-NLS-1$
+			ant.appendChild(property);
+		});
+		return ant;
 	}
 
 	protected boolean groupedConfigurations() {
@@ -822,6 +905,11 @@ public class FeatureExportOperation extends Job {
 		fStateCopy = state.getFactory().createState(state);
 		fStateCopy.setResolver(BundleHelper.getPlatformAdmin().createResolver());
 		fStateCopy.setPlatformProperties(state.getPlatformProperties());
+		if (fInfo.reuseUnchangedBundles && !fInfo.exportSource) {
+			// replace unchanged workspace plug-ins by the jars of a previous export
+			fExportCache = new IncrementalExportCache(fInfo);
+			fExportCache.apply(fStateCopy);
+		}
 	}
 
 	private Path getDevProperties() throws CoreException {
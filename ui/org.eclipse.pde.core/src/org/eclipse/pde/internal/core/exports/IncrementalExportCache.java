@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.exports;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.core.build.IBuild;
+import org.eclipse.pde.core.build.IBuildEntry;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.build.WorkspaceBuildModel;
+import org.eclipse.pde.internal.core.feature.FeatureChild;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Version;
+
+/**
+ * Keeps the bundle jars produced by exports of workspace plug-ins, so later
+ * exports can reuse the jars of plug-ins that did not change instead of
+ * compiling and packaging them again.
+ * <p>
+ * Only the workspace plug-ins exported by the operation are considered, i.e.
+ * the exported plug-ins and the plug-ins of the exported features and their
+ * included features. A plug-in is identified by a hash of the paths, sizes and
+ * time stamps of all files of its project, including the manifest,
+ * build.properties and output folders, of the export settings that influence
+ * the produced jar and of the bundles its dependencies are resolved to. For
+ * dependencies on workspace plug-ins the files of their projects are included
+ * as well, since their API can change without a change of their version.
+ * </p>
+ * <p>
+ * Before the build, the bundles of unchanged plug-ins are replaced in the
+ * build state by their cached jars, which makes PDE Build treat them as binary
+ * bundles that are copied and published as they are. After a successful build,
+ * the jars of all other exported plug-ins are taken from the build temp
+ * location and stored in the cache.
+ * </p>
+ * <p>
+ * A reused jar keeps the version qualifier it was built with.
+ * </p>
+ */
+public final class IncrementalExportCache {
+
+	private static final String CACHE_DIR = ".export_cache"; //$NON-NLS-1$
+	private static final String FINGERPRINT_FILE = "bundle.fingerprint"; //$NON-NLS-1$
+
+	private final Object[] fItems;
+	private final String fSettings;
+	private final Map<IPluginModelBase, String> fFingerprints = new HashMap<>();
+	private final Map<IPluginModelBase, String> fProjectDigests = new HashMap<>();
+	private final Set<IPluginModelBase> fReused = new HashSet<>();
+
+	public IncrementalExportCache(FeatureExportInfo info) {
+		fItems = info.items;
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JavaCore.PLUGIN_ID);
+		List<String> settings = new ArrayList<>();
+		settings.add(info.qualifier);
+		settings.add(Boolean.toString(info.useWorkspaceCompiledClasses));
+		settings.add(info.signingInfo != null ? info.signingInfo[0] + '@' + info.signingInfo[1] : null);
+		settings.add(prefs.get(JavaCore.COMPILER_SOURCE, null));
+		settings.add(prefs.get(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, null));
+		fSettings = String.valueOf(settings);
+	}
+
+	/**
+	 * Replaces the workspace bundles in the given build state whose cached jar
+	 * is up to date by a bundle located at that jar.
+	 *
+	 * @param state
+	 *            the state used by PDE Build
+	 */
+	public void apply(State state) {
+		StateObjectFactory factory = state.getFactory();
+		for (IPluginModelBase model : getExportedWorkspaceModels()) {
+			BundleDescription desc = model.getBundleDescription();
+			if (desc == null || state.getBundle(desc.getBundleId()) == null || isCustomBuild(model)) {
+				continue;
+			}
+			String fingerprint = computeFingerprint(model);
+			if (fingerprint == null) {
+				continue;
+			}
+			fFingerprints.put(model, fingerprint);
+			File jar = getCachedJar(model, fingerprint);
+			if (jar == null) {
+				continue;
+			}
+			try {
+				Map<String, String> manifest = ManifestUtils.loadManifest(jar);
+				BundleDescription cached = factory.createBundleDescription(state, new Hashtable<>(manifest),
+						jar.getAbsolutePath(), desc.getBundleId());
+				if (state.updateBundle(cached)) {
+					fReused.add(model);
+				}
+			} catch (CoreException | BundleException e) {
+				// build the plug-in from its project
+				PDECore.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Stores the jars of the exported workspace plug-ins that were built by
+	 * the export. Jars at the destination of the export are not considered,
+	 * since they may be left over from earlier exports.
+	 *
+	 * @param buildTempLocation
+	 *            the directory PDE Build produced the jars in
+	 */
+	public void store(File buildTempLocation) {
+		if (!buildTempLocation.isDirectory()) {
+			return;
+		}
+		List<Path> jars = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(buildTempLocation.toPath())) {
+			files.filter(f -> f.getFileName().toString().endsWith(".jar") && Files.isRegularFile(f)) //$NON-NLS-1$
+					.forEach(jars::add);
+		} catch (IOException e) {
+			PDECore.log(e);
+			return;
+		}
+		fFingerprints.forEach((model, fingerprint) -> {
+			if (fReused.contains(model)) {
+				return;
+			}
+			Path jar = findBuiltJar(model, jars);
+			if (jar == null) {
+				return;
+			}
+			Path dir = getCacheLocation(model);
+			try {
+				delete(dir);
+				Files.createDirectories(dir);
+				Files.copy(jar, dir.resolve(jar.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+				Files.writeString(dir.resolve(FINGERPRINT_FILE), fingerprint, StandardCharsets.UTF_8);
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		});
+	}
+
+	/**
+	 * @return the workspace models of the exported plug-ins and of the
+	 *         plug-ins of the exported features and their included features
+	 */
+	private Set<IPluginModelBase> getExportedWorkspaceModels() {
+		Set<IPluginModelBase> models = new LinkedHashSet<>();
+		Set<IFeature> visited = new HashSet<>();
+		for (Object item : fItems) {
+			if (item instanceof IPluginModelBase model) {
+				addWorkspaceModel(models, model);
+			} else if (item instanceof BundleDescription desc) {
+				addWorkspaceModel(models, PluginRegistry.findModel(desc));
+			} else if (item instanceof IFeatureModel featureModel) {
+				addFeaturePlugins(models, featureModel.getFeature(), visited);
+			}
+		}
+		return models;
+	}
+
+	private static void addFeaturePlugins(Set<IPluginModelBase> models, IFeature feature, Set<IFeature> visited) {
+		if (feature == null || !visited.add(feature)) {
+			return;
+		}
+		for (IFeatureChild child : feature.getIncludedFeatures()) {
+			addFeaturePlugins(models, ((FeatureChild) child).getReferencedFeature(), visited);
+		}
+		for (IFeaturePlugin featurePlugin : feature.getPlugins()) {
+			addWorkspaceModel(models, PluginRegistry.findModel(featurePlugin.getId()));
+		}
+	}
+
+	private static void addWorkspaceModel(Set<IPluginModelBase> models, IPluginModelBase model) {
+		if (model != null && model.getUnderlyingResource() != null) {
+			models.add(model);
+		}
+	}
+
+	private static Path findBuiltJar(IPluginModelBase model, List<Path> jars) {
+		BundleDescription desc = model.getBundleDescription();
+		Version version = desc.getVersion();
+		String prefix = desc.getSymbolicName() + '_' + version.getMajor() + '.' + version.getMinor() + '.'
+				+ version.getMicro();
+		Path result = null;
+		for (Path jar : jars) {
+			String name = jar.getFileName().toString();
+			boolean matches = name.startsWith(prefix) && name.charAt(prefix.length()) == '.';
+			if (matches && (result == null || jar.toFile().lastModified() > result.toFile().lastModified())) {
+				result = jar;
+			}
+		}
+		return result;
+	}
+
+	private static File getCachedJar(IPluginModelBase model, String fingerprint) {
+		Path dir = getCacheLocation(model);
+		Path fingerprintFile = dir.resolve(FINGERPRINT_FILE);
+		try {
+			if (!Files.exists(fingerprintFile)
+					|| !fingerprint.equals(Files.readString(fingerprintFile, StandardCharsets.UTF_8))) {
+				return null;
+			}
+			try (Stream<Path> files = Files.list(dir)) {
+				return files.filter(f -> f.getFileName().toString().endsWith(".jar")).map(Path::toFile) //$NON-NLS-1$
+						.findFirst().orElse(null);
+			}
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Path getCacheLocation(IPluginModelBase model) {
+		BundleDescription desc = model.getBundleDescription();
+		return PDECore.getDefault().getStateLocation().append(CACHE_DIR)
+				.append(desc.getSymbolicName() + '_' + desc.getVersion()).toPath();
+	}
+
+	private static boolean isCustomBuild(IPluginModelBase model) {
+		IFile buildFile = PDEProject.getBuildProperties(model.getUnderlyingResource().getProject());
+		if (!buildFile.exists()) {
+			return false;
+		}
+		WorkspaceBuildModel buildModel = new WorkspaceBuildModel(buildFile);
+		buildModel.load();
+		IBuild build = buildModel.getBuild();
+		IBuildEntry entry = build != null ? build.getEntry("custom") : null; //$NON-NLS-1$
+		return entry != null && entry.contains("true"); //$NON-NLS-1$
+	}
+
+	private String computeFingerprint(IPluginModelBase model) {
+		String projectDigest = getProjectDigest(model);
+		if (projectDigest == null) {
+			return null;
+		}
+		List<String> dependencies = new ArrayList<>();
+		BundleDescription desc = model.getBundleDescription();
+		for (BundleDescription required : desc.getResolvedRequires()) {
+			dependencies.add(getDependencyEntry(required));
+		}
+		for (ExportPackageDescription imported : desc.getResolvedImports()) {
+			dependencies.add(imported.getName() + ';' + imported.getVersion() + ';'
+					+ getDependencyEntry(imported.getExporter()));
+		}
+		HostSpecification host = desc.getHost();
+		if (host != null) {
+			for (BundleDescription hostBundle : host.getHosts()) {
+				dependencies.add(getDependencyEntry(hostBundle));
+			}
+		}
+		Collections.sort(dependencies);
+		dependencies.add(0, projectDigest);
+		dependencies.add(0, fSettings);
+		return digest(dependencies);
+	}
+
+	/**
+	 * @return the resolved bundle, including the digest of its project if it
+	 *         is a workspace plug-in
+	 */
+	private String getDependencyEntry(BundleDescription bundle) {
+		String entry = bundle.getSymbolicName() + ';' + bundle.getVersion();
+		IPluginModelBase model = PluginRegistry.findModel(bundle);
+		if (model != null && model.getUnderlyingResource() != null) {
+			entry += ';' + getProjectDigest(model);
+		}
+		return entry;
+	}
+
+	/**
+	 * @return the digest of the paths, sizes and time stamps of the files of
+	 *         the project of the workspace model, or <code>null</code> if the
+	 *         project cannot be read
+	 */
+	private String getProjectDigest(IPluginModelBase model) {
+		if (fProjectDigests.containsKey(model)) {
+			return fProjectDigests.get(model);
+		}
+		IResource resource = model.getUnderlyingResource();
+		IProject project = resource != null ? resource.getProject() : null;
+		IPath location = project != null ? project.getLocation() : null;
+		String digest = location != null ? computeProjectDigest(location.toPath()) : null;
+		fProjectDigests.put(model, digest);
+		return digest;
+	}
+
+	private static String computeProjectDigest(Path root) {
+		List<String> entries = new ArrayList<>();
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					String name = dir.getFileName().toString();
+					return name.equals(".git") || name.equals("temp.folder") ? FileVisitResult.SKIP_SUBTREE //$NON-NLS-1$ //$NON-NLS-2$
+							: FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					if (!isGeneratedBuildFile(file.getFileName().toString())) {
+						entries.add(root.relativize(file) + ";" + attrs.size() + ';' + attrs.lastModifiedTime().toMillis()); //$NON-NLS-1$
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException e) {
+			return null;
+		}
+		Collections.sort(entries);
+		return digest(entries);
+	}
+
+	private static String digest(List<String> entries) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] hash = digest.digest(String.join("\n", entries).getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return whether the file is one of the files PDE Build generates into
+	 *         the project during an export
+	 * @see FeatureExportOperation#deleteBuildFiles(Object)
+	 */
+	private static boolean isGeneratedBuildFile(String name) {
+		return name.equals("build.xml") //$NON-NLS-1$
+				|| (name.startsWith("javaCompiler.") && name.endsWith(".args")) //$NON-NLS-1$ //$NON-NLS-2$
+				|| (name.startsWith("assemble.") && name.endsWith(".xml")) //$NON-NLS-1$ //$NON-NLS-2$
+				|| (name.startsWith("package.") && name.endsWith(".xml")) //$NON-NLS-1$ //$NON-NLS-2$
+				|| (name.startsWith("compile.") && name.endsWith(".xml")) //$NON-NLS-1$ //$NON-NLS-2$
+				|| name.equals(FeatureExportOperation.FEATURE_POST_PROCESSING)
+				|| name.equals(FeatureExportOperation.PLUGIN_POST_PROCESSING);
+	}
+
+	private static void delete(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return;
+		}
+		try (Stream<Path> files = Files.walk(path)) {
+			for (Path file : (Iterable<Path>) files.sorted(Collections.reverseOrder())::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+}
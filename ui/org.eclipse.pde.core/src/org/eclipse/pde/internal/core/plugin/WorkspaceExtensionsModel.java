@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.plugin;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.MalformedURLException;
@@ -30,6 +32,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.core.IEditableModel;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.build.IBuildEntry;
+import org.eclipse.pde.core.plugin.IExtensions;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.PDECore;
@@ -45,6 +48,7 @@ public class WorkspaceExtensionsModel extends AbstractExtensionsModel implements
 	private boolean fDirty;
 	private boolean fEditable = true;
 	private transient IBundlePluginModelBase fBundleModel;
+	private volatile boolean fLoadPending;
 
 	@Override
 	protected NLResourceHelper createNLResourceHelper() {
@@ -105,6 +109,56 @@ public class WorkspaceExtensionsModel extends AbstractExtensionsModel implements
 		getExtensions(true);
 	}
 
+	/**
+	 * Defers reading the underlying file until the extensions of this model
+	 * are accessed for the first time. Used when the workspace models are
+	 * created, where most extension models are never looked at.
+	 */
+	public void loadOnDemand() {
+		fLoadPending = true;
+	}
+
+	private void ensureLoaded() {
+		if (!fLoadPending) {
+			return;
+		}
+		synchronized (this) {
+			if (!fLoadPending) {
+				return;
+			}
+			fLoadPending = false;
+			try (InputStream stream = new BufferedInputStream(fUnderlyingResource.getContents(true))) {
+				load(stream, false);
+			} catch (CoreException | IOException e) {
+				PDECore.logException(e);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void load(InputStream stream, boolean outOfSync) throws CoreException {
+		fLoadPending = false;
+		super.load(stream, outOfSync);
+	}
+
+	@Override
+	public IExtensions getExtensions(boolean createIfMissing) {
+		ensureLoaded();
+		return super.getExtensions(createIfMissing);
+	}
+
+	@Override
+	public boolean isLoaded() {
+		ensureLoaded();
+		return super.isLoaded();
+	}
+
+	@Override
+	public boolean isInSync() {
+		// a model that was not read yet will be read from the current file
+		return fLoadPending || super.isInSync();
+	}
+
 	@Override
 	public void save() {
 		if (fUnderlyingResource == null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2013 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,7 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	private final URL fSchemaURL;
 	private String fSchemaLocation;
-	private Schema fSchema;
+	private volatile Schema fSchema;
 	private long fLastModified;
 
 	public IncludedSchemaDescriptor(URL schemaURL) {
@@ -159,11 +159,19 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 
 	@Override
 	public ISchema getSchema(boolean abbreviated) {
-		if (fSchema == null && fSchemaURL != null) {
-			fSchema = new Schema(this, fSchemaURL, abbreviated);
-			fSchema.load();
+		Schema schema = fSchema;
+		if (schema == null && fSchemaURL != null) {
+			// parse without holding the lock, see SchemaDescriptor
+			schema = new Schema(this, fSchemaURL, abbreviated);
+			schema.load();
+			synchronized (this) {
+				if (fSchema == null) {
+					fSchema = schema;
+				}
+				schema = fSchema;
+			}
 		}
-		return fSchema;
+		return schema;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2013 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -25,7 +25,7 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 
 	private String fPoint;
 	private URL fSchemaURL;
-	private Schema fSchema;
+	private volatile Schema fSchema;
 	private long fLastModified;
 	private boolean fEditable;
 	private SchemaProvider schemaProvider;
@@ -79,16 +79,26 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 
 	@Override
 	public ISchema getSchema(boolean abbreviated) {
-		if (fSchema == null && fSchemaURL != null) {
+		Schema schema = fSchema;
+		if (schema == null && fSchemaURL != null) {
+			// parse without holding the lock, so threads loading schemas that
+			// include each other cannot block each other; the first parsed
+			// schema wins
 			if (fEditable) {
-				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
+				schema = new EditableSchema(this, fSchemaURL, abbreviated);
 			} else {
-				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				schema = new Schema(this, fSchemaURL, abbreviated);
+			}
+			schema.setSchemaProvider(schemaProvider);
+			schema.load();
+			synchronized (this) {
+				if (fSchema == null) {
+					fSchema = schema;
+				}
+				schema = fSchema;
 			}
-			fSchema.setSchemaProvider(schemaProvider);
-			fSchema.load();
 		}
-		return fSchema;
+		return schema;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,17 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.plugin.IFragment;
 import org.eclipse.pde.core.plugin.IFragmentModel;
 import org.eclipse.pde.core.plugin.IPluginBase;
@@ -26,24 +34,38 @@ import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.SourceLocationManager;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Provides the schemas of extension points. The registry is thread-safe, so
+ * schemas can be loaded concurrently, e.g. by the builder of several projects
+ * and by the job that loads the schemas used by the workspace plug-ins in the
+ * background.
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	private final Map<String, ISchemaDescriptor> fRegistry = new ConcurrentHashMap<>();
+
+	private final Job fPreloadJob = Job.create(PDECoreMessages.SchemaRegistry_loadingSchemas, this::preloadSchemas);
+
+	public SchemaRegistry() {
+		fPreloadJob.setSystem(true);
+		fPreloadJob.setPriority(Job.DECORATE);
+	}
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,15 +74,83 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
+		ISchemaDescriptor desc = fRegistry.get(extPointID);
+		if (desc == null || hasSchemaChanged(desc, url)) {
+			desc = publish(extPointID, desc, new SchemaDescriptor(extPointID, url));
 		}
-
 		return desc.getSchema(true);
 	}
 
+	/**
+	 * Schedules a background job that loads the schemas of all extension
+	 * points that workspace plug-ins contribute extensions to, so the first
+	 * build or the first opened manifest editor does not have to parse them.
+	 * The referenced extension points are read from the extension registry,
+	 * so the extensions of the workspace plug-ins are not loaded. The schemas
+	 * are loaded in parallel by a bounded number of threads. Does nothing if
+	 * disabled by the {@link ICoreConstants#PRELOAD_EXTENSION_POINT_SCHEMAS}
+	 * preference.
+	 */
+	public void schedulePreload() {
+		if (!PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.PRELOAD_EXTENSION_POINT_SCHEMAS)) {
+			return;
+		}
+		fPreloadJob.cancel();
+		fPreloadJob.schedule();
+	}
+
+	private void preloadSchemas(IProgressMonitor monitor) {
+		PDEExtensionRegistry extensions = PDECore.getDefault().getExtensionsRegistry();
+		Set<String> points = new LinkedHashSet<>();
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			for (String point : extensions.findReferencedExtensionPointIds(model)) {
+				if (point != null) {
+					points.add(point);
+				}
+			}
+		}
+		if (points.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		int threads = Math.min(points.size(), Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "PDE schema preloader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			for (String point : points) {
+				executor.execute(() -> {
+					if (monitor.isCanceled()) {
+						return;
+					}
+					try {
+						getSchema(point);
+					} catch (RuntimeException e) {
+						PDECore.log(e);
+					}
+				});
+			}
+		} finally {
+			executor.shutdown();
+		}
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Loaded " + points.size() + " extension point schemas in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
 		try {
 			URL url = IncludedSchemaDescriptor.computeURL(parent, schemaLocation, null);
@@ -68,10 +158,9 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
+			ISchemaDescriptor desc = fRegistry.get(url.toString());
+			if (desc == null || hasSchemaChanged(desc, url)) {
+				desc = publish(url.toString(), desc, new IncludedSchemaDescriptor(url));
 			}
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
@@ -79,17 +168,6 @@ public class SchemaRegistry {
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
-		}
-		return desc;
-	}
-
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
 		URL url = getSchemaURL(point);
 		if (url != null) {
@@ -174,6 +252,15 @@ public class SchemaRegistry {
 		return null;
 	}
 
+	/**
+	 * Replaces the outdated or missing descriptor with the created one, unless
+	 * another thread replaced it concurrently. The file system is accessed
+	 * before, so no I/O happens while the entry of the registry is locked.
+	 */
+	private ISchemaDescriptor publish(String key, ISchemaDescriptor outdated, ISchemaDescriptor created) {
+		return fRegistry.compute(key, (k, current) -> current == null || current == outdated ? created : current);
+	}
+
 	private boolean hasSchemaChanged(ISchemaDescriptor desc, URL url) {
 		if (!desc.getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
 			return true;
@@ -183,6 +270,7 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
+		fPreloadJob.cancel();
 		fRegistry.clear();
 	}
 
@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.IExtensionDeltaEvent;
+import org.eclipse.pde.internal.core.IExtensionDeltaListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+
+/**
+ * An inverted index from the ids a plug-in search compares with its pattern
+ * to the plug-in models containing them. It is used by
+ * {@link PluginSearchOperation} to select the models that can contain a
+ * match, so only those have to be visited.
+ * <p>
+ * The index is built on the first search and is then kept up to date with the
+ * plug-in model deltas of the {@link PluginModelManager}, which include the
+ * reload of the target platform, and with the extension deltas of workspace
+ * plug-ins. The ids of extension points and extensions are only indexed once
+ * a search asks for them, since they are read from the plugin.xml files of
+ * the plug-ins, which the ids of other kinds do not require.
+ * </p>
+ * <p>
+ * The models are mapped by the exact ids of each kind, so ids that only
+ * differ in case are kept apart. The ids are additionally sorted by their
+ * lower-cased form, so a search pattern only has to be compared with the ids
+ * starting with the literal prefix of the pattern, i.e. the characters before
+ * its first wildcard, regardless of whether the search is case sensitive.
+ * </p>
+ */
+public final class PluginSearchIndex {
+
+	/**
+	 * The kinds of ids that are indexed
+	 */
+	public enum Kind {
+		/** Ids of plug-ins */
+		PLUGIN,
+		/** Ids of fragments */
+		FRAGMENT,
+		/** Ids of imported plug-ins and host plug-ins of fragments */
+		PLUGIN_REFERENCE,
+		/** Full ids of declared extension points */
+		EXTENSION_POINT,
+		/** Ids of the extension points extensions contribute to */
+		EXTENSION_POINT_REFERENCE
+	}
+
+	private static final Set<Kind> EXTENSION_KINDS = EnumSet.of(Kind.EXTENSION_POINT, Kind.EXTENSION_POINT_REFERENCE);
+
+	private static PluginSearchIndex fDefault;
+
+	private final Map<Kind, IdIndex> fIndex = new EnumMap<>(Kind.class);
+	private final Map<IPluginModelBase, IndexedModel> fModels = new HashMap<>();
+	private final Map<String, List<IPluginModelBase>> fEntries = new HashMap<>();
+	private boolean fBuilt;
+	private boolean fExtensionsIndexed;
+
+	/**
+	 * The ids a model was indexed with
+	 */
+	private record IndexedModel(String entryId, Map<Kind, Set<String>> keys) {
+	}
+
+	/**
+	 * The models containing the ids of one kind
+	 */
+	private static final class IdIndex {
+		/** The models by their exact ids */
+		private final Map<String, Set<IPluginModelBase>> fModels = new HashMap<>();
+		/** The exact ids by their lower-cased form */
+		private final NavigableMap<String, Set<String>> fIds = new TreeMap<>();
+
+		void add(String id, IPluginModelBase model) {
+			if (fModels.computeIfAbsent(id, k -> new HashSet<>()).add(model)) {
+				fIds.computeIfAbsent(toLowerCase(id), k -> new HashSet<>()).add(id);
+			}
+		}
+
+		void remove(String id, IPluginModelBase model) {
+			Set<IPluginModelBase> models = fModels.get(id);
+			if (models != null && models.remove(model) && models.isEmpty()) {
+				fModels.remove(id);
+				String key = toLowerCase(id);
+				Set<String> ids = fIds.get(key);
+				if (ids != null && ids.remove(id) && ids.isEmpty()) {
+					fIds.remove(key);
+				}
+			}
+		}
+
+		void find(Pattern pattern, String prefix, Set<IPluginModelBase> result) {
+			NavigableMap<String, Set<String>> ids = fIds;
+			if (!prefix.isEmpty()) {
+				String key = toLowerCase(prefix);
+				ids = ids.subMap(key, true, key + Character.MAX_VALUE, false);
+			}
+			ids.values().forEach(exactIds -> {
+				for (String id : exactIds) {
+					if (pattern.matcher(id).matches()) {
+						result.addAll(fModels.get(id));
+					}
+				}
+			});
+		}
+
+		private static String toLowerCase(String id) {
+			return id.toLowerCase(Locale.ROOT);
+		}
+	}
+
+	private PluginSearchIndex() {
+		for (Kind kind : Kind.values()) {
+			fIndex.put(kind, new IdIndex());
+		}
+	}
+
+	/**
+	 * @return the index of all plug-in models known to the
+	 *         {@link PluginModelManager}
+	 */
+	public static synchronized PluginSearchIndex getDefault() {
+		if (fDefault == null) {
+			PluginSearchIndex index = new PluginSearchIndex();
+			PluginModelManager manager = PDECore.getDefault().getModelManager();
+			manager.addPluginModelListener(index.new ModelListener());
+			manager.addExtensionDeltaListener(index.new ExtensionListener());
+			fDefault = index;
+		}
+		return fDefault;
+	}
+
+	/**
+	 * Returns whether the given model is contained in the index. Models that
+	 * are not contained cannot be ruled out by {@link #findModels(Pattern, String, Set)}.
+	 *
+	 * @param model
+	 *            a plug-in model
+	 * @return whether the model is indexed
+	 */
+	public synchronized boolean isIndexed(IPluginModelBase model) {
+		ensureBuilt(Set.of());
+		return fModels.containsKey(model);
+	}
+
+	/**
+	 * Returns the indexed models containing an id of one of the given kinds
+	 * that matches the pattern.
+	 *
+	 * @param pattern
+	 *            the pattern created from the search string
+	 * @param searchString
+	 *            the search string with <code>*</code> and <code>?</code>
+	 *            wildcards
+	 * @param kinds
+	 *            the kinds of ids to match
+	 * @return the matching models
+	 */
+	public synchronized Set<IPluginModelBase> findModels(Pattern pattern, String searchString, Set<Kind> kinds) {
+		ensureBuilt(kinds);
+		String prefix = getLiteralPrefix(searchString);
+		Set<IPluginModelBase> result = new HashSet<>();
+		for (Kind kind : kinds) {
+			fIndex.get(kind).find(pattern, prefix, result);
+		}
+		return result;
+	}
+
+	private static String getLiteralPrefix(String searchString) {
+		for (int i = 0; i < searchString.length(); i++) {
+			char c = searchString.charAt(i);
+			if (c == '*' || c == '?') {
+				return searchString.substring(0, i);
+			}
+		}
+		return searchString;
+	}
+
+	private void ensureBuilt(Set<Kind> kinds) {
+		if (!fBuilt) {
+			for (IPluginModelBase model : PluginRegistry.getAllModels(false)) {
+				add(model);
+			}
+			fBuilt = true;
+		}
+		if (!fExtensionsIndexed && kinds.stream().anyMatch(EXTENSION_KINDS::contains)) {
+			fModels.forEach((model, indexed) -> {
+				Map<Kind, Set<String>> keys = new EnumMap<>(Kind.class);
+				addExtensionKeys(keys, model.getPluginBase());
+				index(model, keys);
+				indexed.keys().putAll(keys);
+			});
+			fExtensionsIndexed = true;
+		}
+	}
+
+	private synchronized void entriesChanged(ModelEntry[] entries, boolean removed) {
+		if (!fBuilt) {
+			return;
+		}
+		for (ModelEntry entry : entries) {
+			List<IPluginModelBase> oldModels = fEntries.get(entry.getId());
+			if (oldModels != null) {
+				for (IPluginModelBase model : new ArrayList<>(oldModels)) {
+					remove(model);
+				}
+			}
+			if (removed) {
+				continue;
+			}
+			for (IPluginModelBase model : entry.getWorkspaceModels()) {
+				add(model);
+			}
+			for (IPluginModelBase model : entry.getExternalModels()) {
+				add(model);
+			}
+		}
+	}
+
+	private synchronized void modelsChanged(IPluginModelBase[] models, boolean removed) {
+		if (!fBuilt) {
+			return;
+		}
+		for (IPluginModelBase model : models) {
+			remove(model);
+			if (!removed) {
+				add(model);
+			}
+		}
+	}
+
+	private void add(IPluginModelBase model) {
+		IPluginBase pluginBase = model.getPluginBase();
+		String entryId = pluginBase.getId();
+		if (entryId == null) {
+			return;
+		}
+		Map<Kind, Set<String>> keys = new EnumMap<>(Kind.class);
+		if (pluginBase instanceof IPlugin) {
+			addKey(keys, Kind.PLUGIN, pluginBase.getId());
+		}
+		if (pluginBase instanceof IFragment fragment) {
+			addKey(keys, Kind.FRAGMENT, fragment.getId());
+			addKey(keys, Kind.PLUGIN_REFERENCE, fragment.getPluginId());
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			addKey(keys, Kind.PLUGIN_REFERENCE, pluginImport.getId());
+		}
+		if (fExtensionsIndexed) {
+			addExtensionKeys(keys, pluginBase);
+		}
+		index(model, keys);
+		fModels.put(model, new IndexedModel(entryId, keys));
+		fEntries.computeIfAbsent(entryId, k -> new ArrayList<>()).add(model);
+	}
+
+	private static void addExtensionKeys(Map<Kind, Set<String>> keys, IPluginBase pluginBase) {
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			addKey(keys, Kind.EXTENSION_POINT, extensionPoint.getFullId());
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			addKey(keys, Kind.EXTENSION_POINT_REFERENCE, extension.getPoint());
+		}
+	}
+
+	private void index(IPluginModelBase model, Map<Kind, Set<String>> keys) {
+		keys.forEach((kind, ids) -> {
+			IdIndex index = fIndex.get(kind);
+			for (String id : ids) {
+				index.add(id, model);
+			}
+		});
+	}
+
+	private static void addKey(Map<Kind, Set<String>> keys, Kind kind, String id) {
+		if (id != null) {
+			keys.computeIfAbsent(kind, k -> new HashSet<>()).add(id);
+		}
+	}
+
+	private void remove(IPluginModelBase model) {
+		IndexedModel indexed = fModels.remove(model);
+		if (indexed == null) {
+			return;
+		}
+		indexed.keys().forEach((kind, ids) -> {
+			IdIndex index = fIndex.get(kind);
+			for (String id : ids) {
+				index.remove(id, model);
+			}
+		});
+		List<IPluginModelBase> entryModels = fEntries.get(indexed.entryId());
+		if (entryModels != null && entryModels.remove(model) && entryModels.isEmpty()) {
+			fEntries.remove(indexed.entryId());
+		}
+	}
+
+	private class ModelListener implements IPluginModelListener {
+		@Override
+		public void modelsChanged(PluginModelDelta delta) {
+			if ((delta.getKind() & PluginModelDelta.ADDED) != 0) {
+				entriesChanged(delta.getAddedEntries(), false);
+			}
+			if ((delta.getKind() & PluginModelDelta.REMOVED) != 0) {
+				entriesChanged(delta.getRemovedEntries(), true);
+			}
+			if ((delta.getKind() & PluginModelDelta.CHANGED) != 0) {
+				entriesChanged(delta.getChangedEntries(), false);
+			}
+		}
+	}
+
+	private class ExtensionListener implements IExtensionDeltaListener {
+		@Override
+		public void extensionsChanged(IExtensionDeltaEvent event) {
+			modelsChanged(event.getAddedModels(), false);
+			modelsChanged(event.getChangedModels(), false);
+			modelsChanged(event.getRemovedModels(), true);
+		}
+	}
+}
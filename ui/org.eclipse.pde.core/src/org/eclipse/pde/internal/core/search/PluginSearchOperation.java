@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.pde.internal.core.search;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -30,6 +32,7 @@ import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex.Kind;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
 
 public class PluginSearchOperation {
@@ -48,8 +51,12 @@ public class PluginSearchOperation {
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
+		PluginSearchIndex index = PluginSearchIndex.getDefault();
+		Set<IPluginModelBase> candidates = index.findModels(fPattern, fInput.getSearchString(), getIndexedKinds());
 		for (IPluginModelBase candidate : plugins) {
-			visit(candidate);
+			if (candidates.contains(candidate) || !index.isIndexed(candidate)) {
+				visit(candidate);
+			}
 			subMonitor.split(1);
 		}
 
@@ -59,6 +66,36 @@ public class PluginSearchOperation {
 		}
 	}
 
+	/**
+	 * @return the kinds of ids of plug-in models compared with the pattern
+	 */
+	private Set<Kind> getIndexedKinds() {
+		Set<Kind> kinds = EnumSet.noneOf(Kind.class);
+		int searchLimit = fInput.getSearchLimit();
+		switch (fInput.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES) {
+					kinds.add(Kind.PLUGIN);
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					kinds.add(Kind.PLUGIN_REFERENCE);
+				}
+				break;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				kinds.add(Kind.FRAGMENT);
+				break;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES) {
+					kinds.add(Kind.EXTENSION_POINT);
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					kinds.add(Kind.EXTENSION_POINT_REFERENCE);
+				}
+				break;
+		}
+		return kinds;
+	}
+
 	private void visit(IPluginModelBase model) {
 		ArrayList<IIdentifiable> matches = findMatch(model);
 		for (int i = 0; i < matches.size(); i++) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018, 2023 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,14 +18,42 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleRequirement;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
 
 class MultiBundleClassLoader extends ClassLoader {
 	private final List<Bundle> bundleList;
 
+	/**
+	 * Key is a package name, value are the bundles of the list that can load
+	 * classes of the package, in the order of the list. Packages that are not
+	 * contained are looked up in all bundles. Created on first use.
+	 */
+	private Map<String, List<Bundle>> packageIndex;
+	/**
+	 * Bundles that may load packages not known from their wiring, e.g. by
+	 * dynamic imports. They are tried for every package.
+	 */
+	private final Set<Bundle> openBundles = new HashSet<>();
+
+	// names of classes and resources that were not found in any bundle
+	private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+	private final Set<String> missingResources = ConcurrentHashMap.newKeySet();
+
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
 		this.bundleList = platformEngineBundles;
@@ -33,7 +61,12 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
-		for (Bundle temp : bundleList) {
+		if (missingClasses.contains(name)) {
+			throw new ClassNotFoundException(name);
+		}
+		int dot = name.lastIndexOf('.');
+		String packageName = dot != -1 ? name.substring(0, dot) : ""; //$NON-NLS-1$
+		for (Bundle temp : getCandidates(packageName)) {
 			try {
 				Class<?> c = temp.loadClass(name);
 				if (c != null) {
@@ -42,12 +75,16 @@ class MultiBundleClassLoader extends ClassLoader {
 			} catch (ClassNotFoundException e) {
 			}
 		}
+		missingClasses.add(name);
 		throw new ClassNotFoundException(name);
 	}
 
 	@Override
 	protected URL findResource(String name) {
-		for (Bundle temp : bundleList) {
+		if (missingResources.contains(name)) {
+			return null;
+		}
+		for (Bundle temp : getResourceCandidates(name)) {
 			URL url = temp.getResource(name);
 			if (url != null) {
 				try {
@@ -57,13 +94,14 @@ class MultiBundleClassLoader extends ClassLoader {
 				}
 			}
 		}
+		missingResources.add(name);
 		return null;
 	}
 
 	@Override
 	protected Enumeration<URL> findResources(String name) throws IOException {
 		List<URL> merged = new ArrayList<>();
-		for (Bundle bundle : bundleList) {
+		for (Bundle bundle : getResourceCandidates(name)) {
 			Enumeration<URL> resources = bundle.getResources(name);
 			while (resources != null && resources.hasMoreElements()) {
 				merged.add(FileLocator.resolve(resources.nextElement()));
@@ -71,4 +109,109 @@ class MultiBundleClassLoader extends ClassLoader {
 		}
 		return Collections.enumeration(merged);
 	}
-}
\ No newline at end of file
+
+	private List<Bundle> getResourceCandidates(String name) {
+		// other resources may be contained in folders of packages a bundle has no classes of
+		return name.endsWith(".class") ? getCandidates(getResourcePackage(name)) : bundleList; //$NON-NLS-1$
+	}
+
+	private static String getResourcePackage(String name) {
+		String path = name.startsWith("/") ? name.substring(1) : name; //$NON-NLS-1$
+		int slash = path.lastIndexOf('/');
+		return slash != -1 ? path.substring(0, slash).replace('/', '.') : ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the bundles that may provide classes or resources of the given
+	 * package, i.e. the bundles that contain, import or require a bundle
+	 * exporting the package. Returns all bundles if the package is not known
+	 * from the wiring of any bundle, e.g. because it is boot delegated, or is
+	 * the default package.
+	 */
+	private List<Bundle> getCandidates(String packageName) {
+		if (packageName.isEmpty()) {
+			return bundleList;
+		}
+		List<Bundle> candidates = getPackageIndex().get(packageName);
+		return candidates != null ? candidates : bundleList;
+	}
+
+	private synchronized Map<String, List<Bundle>> getPackageIndex() {
+		if (packageIndex == null) {
+			Map<String, Set<Bundle>> providers = new HashMap<>();
+			for (Bundle bundle : bundleList) {
+				BundleWiring wiring = bundle.adapt(BundleWiring.class);
+				if (wiring == null) {
+					openBundles.add(bundle);
+					continue;
+				}
+				for (String packageName : getVisiblePackages(wiring)) {
+					providers.computeIfAbsent(packageName, p -> new LinkedHashSet<>()).add(bundle);
+				}
+			}
+			Map<String, List<Bundle>> index = new HashMap<>();
+			for (Map.Entry<String, Set<Bundle>> entry : providers.entrySet()) {
+				List<Bundle> candidates = new ArrayList<>();
+				for (Bundle bundle : bundleList) {
+					if (entry.getValue().contains(bundle) || openBundles.contains(bundle)) {
+						candidates.add(bundle);
+					}
+				}
+				index.put(entry.getKey(), candidates);
+			}
+			packageIndex = index;
+		}
+		return packageIndex;
+	}
+
+	private Set<String> getVisiblePackages(BundleWiring wiring) {
+		Set<String> packages = new HashSet<>();
+		// own packages, including private ones and those of fragments
+		for (String classFile : wiring.listResources("/", "*.class", BundleWiring.LISTRESOURCES_LOCAL | BundleWiring.LISTRESOURCES_RECURSE)) { //$NON-NLS-1$ //$NON-NLS-2$
+			packages.add(getResourcePackage(classFile));
+		}
+		addExportedPackages(wiring, packages);
+		for (BundleWire wire : wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE)) {
+			Object packageName = wire.getCapability().getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+			if (packageName instanceof String) {
+				packages.add((String) packageName);
+			}
+		}
+		addRequiredBundlePackages(wiring, packages, new HashSet<>());
+		for (BundleRequirement requirement : wiring.getRequirements(PackageNamespace.PACKAGE_NAMESPACE)) {
+			if (PackageNamespace.RESOLUTION_DYNAMIC.equals(requirement.getDirectives().get(PackageNamespace.REQUIREMENT_RESOLUTION_DIRECTIVE))) {
+				openBundles.add(wiring.getBundle());
+			}
+		}
+		return packages;
+	}
+
+	private static void addExportedPackages(BundleWiring wiring, Set<String> packages) {
+		for (BundleCapability capability : wiring.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
+			Object packageName = capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+			if (packageName instanceof String) {
+				packages.add((String) packageName);
+			}
+		}
+	}
+
+	// adds the packages exported by required bundles and the bundles they re-export
+	private static void addRequiredBundlePackages(BundleWiring wiring, Set<String> packages, Set<BundleWiring> visited) {
+		for (BundleWire wire : wiring.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+			addReexportedPackages(wire.getProviderWiring(), packages, visited);
+		}
+	}
+
+	private static void addReexportedPackages(BundleWiring provider, Set<String> packages, Set<BundleWiring> visited) {
+		if (provider == null || !visited.add(provider)) {
+			return;
+		}
+		addExportedPackages(provider, packages);
+		for (BundleWire wire : provider.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+			String visibility = wire.getRequirement().getDirectives().get(BundleNamespace.REQUIREMENT_VISIBILITY_DIRECTIVE);
+			if (BundleNamespace.VISIBILITY_REEXPORT.equals(visibility)) {
+				addReexportedPackages(wire.getProviderWiring(), packages, visited);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,5 +39,12 @@ public interface IPDEConstants {
 	String DOCLEARLOG = "clearwslog"; //$NON-NLS-1$
 	String LAUNCHER_PDE_VERSION = "pde.version"; //$NON-NLS-1$
 	String APPEND_ARGS_EXPLICITLY = "append.args"; //$NON-NLS-1$
+	/**
+	 * Launch configuration attribute key. The value is a boolean specifying
+	 * whether a saved framework storage may be restored into the configuration
+	 * area of the launch. Set it to <code>false</code> to always start the
+	 * framework from scratch. Defaults to <code>true</code>.
+	 */
+	String REUSE_FRAMEWORK_STORAGE = "reuseFrameworkStorage"; //$NON-NLS-1$
 
 }
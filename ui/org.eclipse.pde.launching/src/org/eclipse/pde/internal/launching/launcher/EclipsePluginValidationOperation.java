@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,6 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
@@ -48,8 +47,7 @@ public class EclipsePluginValidationOperation extends LaunchValidationOperation
 	}
 
 	@Override
-	public void run(IProgressMonitor monitor) throws CoreException {
-		super.run(monitor);
+	protected void validateState() {
 		if (!fExtensionErrors.isEmpty())
 			fExtensionErrors.clear();
 		validateExtensions();
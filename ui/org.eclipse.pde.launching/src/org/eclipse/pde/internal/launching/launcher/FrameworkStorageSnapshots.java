@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.launching.ILaunchingPreferenceConstants;
+import org.eclipse.pde.internal.launching.IPDEConstants;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+
+/**
+ * Keeps a copy of the OSGi framework storage of a launch configuration's
+ * configuration area after the launched application terminated normally.
+ * When the configuration area has no framework storage at the next launch,
+ * e.g. because it is new, the copy is restored if the same bundles are
+ * launched, so the framework does not have to install all bundles again.
+ * This includes launches that clear the configuration area, as the snapshot
+ * is restored after the area was cleared. A launch configuration can opt out
+ * with the {@link IPDEConstants#REUSE_FRAMEWORK_STORAGE} attribute.
+ * <p>
+ * The launched bundles are identified by a hash of their ids, versions,
+ * locations, start settings and manifest time stamps. A snapshot is
+ * only restored if its fingerprint is equal to the one of the launch and is
+ * only written if the fingerprint differs from the existing snapshot.
+ * </p>
+ */
+public final class FrameworkStorageSnapshots {
+
+	/**
+	 * Name of the framework storage folder in the configuration area
+	 */
+	private static final String FRAMEWORK_STORAGE = "org.eclipse.osgi"; //$NON-NLS-1$
+	private static final String FINGERPRINT_FILE = "bundles.fingerprint"; //$NON-NLS-1$
+
+	/**
+	 * Launch attribute holding the fingerprint of a launch whose framework
+	 * storage is saved when it terminates
+	 */
+	private static final String PENDING_FINGERPRINT = "pde.framework.fingerprint"; //$NON-NLS-1$
+
+	private FrameworkStorageSnapshots() {
+	}
+
+	/**
+	 * Restores the saved framework storage into the configuration area if the
+	 * area has no framework storage, the configuration does not opt out and
+	 * the snapshot was taken for the same bundles. Then marks the launch so
+	 * that its framework storage is saved after it terminated normally, if
+	 * there is no snapshot for these bundles yet. Must be called after the
+	 * configuration area was cleared and its location was set as
+	 * {@link IPDELauncherConstants#CONFIG_LOCATION} attribute of the launch.
+	 *
+	 * @param configuration
+	 *            the launch configuration
+	 * @param launch
+	 *            the launch
+	 * @param configDir
+	 *            the configuration area of the launch
+	 * @param models
+	 *            the launched bundles, mapped to their
+	 *            <code>startLevel:autoStart</code> setting
+	 */
+	public static void prepare(ILaunchConfiguration configuration, ILaunch launch, File configDir, Map<IPluginModelBase, String> models) {
+		if (!isEnabled(configuration)) {
+			return;
+		}
+		String fingerprint = computeFingerprint(models);
+		Path snapshot = getSnapshotLocation(configuration.getName());
+		boolean upToDate = fingerprint.equals(readFingerprint(snapshot));
+		Path storage = configDir.toPath().resolve(FRAMEWORK_STORAGE);
+		if (upToDate && !Files.exists(storage)) {
+			try {
+				copy(snapshot.resolve(FRAMEWORK_STORAGE), storage);
+			} catch (IOException e) {
+				PDELaunchingPlugin.log(e);
+			}
+		}
+		launch.setAttribute(PENDING_FINGERPRINT, upToDate ? null : fingerprint);
+	}
+
+	/**
+	 * Saves the framework storage of the given launch, if it was prepared by
+	 * {@link #prepare(ILaunchConfiguration, ILaunch, File, Map)} and has
+	 * terminated normally.
+	 *
+	 * @param launch
+	 *            the terminated launch
+	 * @param exitValue
+	 *            the exit value of the launched application
+	 */
+	public static void launchTerminated(ILaunch launch, int exitValue) {
+		String fingerprint = launch.getAttribute(PENDING_FINGERPRINT);
+		String configDir = launch.getAttribute(IPDELauncherConstants.CONFIG_LOCATION);
+		ILaunchConfiguration configuration = launch.getLaunchConfiguration();
+		if (fingerprint == null || configDir == null || configuration == null || exitValue != 0) {
+			return;
+		}
+		launch.setAttribute(PENDING_FINGERPRINT, null);
+		String configName = configuration.getName();
+		Job job = Job.create("Save Framework Storage", monitor -> { //$NON-NLS-1$
+			Path storage = Path.of(configDir, FRAMEWORK_STORAGE);
+			if (!Files.isDirectory(storage)) {
+				return Status.OK_STATUS;
+			}
+			Path snapshot = getSnapshotLocation(configName);
+			Path tmp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp"); //$NON-NLS-1$
+			try {
+				delete(tmp);
+				copy(storage, tmp.resolve(FRAMEWORK_STORAGE));
+				Files.writeString(tmp.resolve(FINGERPRINT_FILE), fingerprint, StandardCharsets.UTF_8);
+				delete(snapshot);
+				Files.move(tmp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				PDELaunchingPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * Deletes the snapshot of the given launch configuration.
+	 *
+	 * @param configuration
+	 *            the launch configuration
+	 */
+	public static void remove(ILaunchConfiguration configuration) {
+		try {
+			delete(getSnapshotLocation(configuration.getName()));
+		} catch (IOException e) {
+			PDELaunchingPlugin.log(e);
+		}
+	}
+
+	private static boolean isEnabled(ILaunchConfiguration configuration) {
+		if (!PDELaunchingPlugin.getDefault().getPreferenceManager().getBoolean(ILaunchingPreferenceConstants.PROP_REUSE_FRAMEWORK_STORAGE)) {
+			return false;
+		}
+		try {
+			return configuration.getAttribute(IPDEConstants.REUSE_FRAMEWORK_STORAGE, true);
+		} catch (CoreException e) {
+			PDELaunchingPlugin.log(e);
+			return false;
+		}
+	}
+
+	private static Path getSnapshotLocation(String configName) {
+		return PDELaunchingPlugin.getDefault().getStateLocation().append(".framework_snapshots").append(configName).toPath(); //$NON-NLS-1$
+	}
+
+	private static String readFingerprint(Path snapshot) {
+		Path file = snapshot.resolve(FINGERPRINT_FILE);
+		try {
+			return Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8) : null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static String computeFingerprint(Map<IPluginModelBase, String> models) {
+		List<String> entries = new ArrayList<>(models.size());
+		models.forEach((model, startSetting) -> {
+			String id = model.getPluginBase().getId();
+			String version = model.getPluginBase().getVersion();
+			entries.add(id + ';' + version + ';' + model.getInstallLocation() + ';' + getTimeStamp(model) + ';' + startSetting);
+		});
+		Collections.sort(entries);
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] hash = digest.digest(String.join("\n", entries).getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static long getTimeStamp(IPluginModelBase model) {
+		IResource resource = model.getUnderlyingResource();
+		if (resource != null) {
+			IProject project = resource.getProject();
+			IPath manifest = PDEProject.getManifest(project).getLocation();
+			return manifest != null ? manifest.toFile().lastModified() : 0;
+		}
+		String location = model.getInstallLocation();
+		return location != null ? new File(location).lastModified() : 0;
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+		try (Stream<Path> files = Files.walk(source)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Path targetFile = target.resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(targetFile);
+				} else {
+					Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+	}
+
+	private static void delete(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return;
+		}
+		try (Stream<Path> files = Files.walk(path)) {
+			for (Path file : (Iterable<Path>) files.sorted(Collections.reverseOrder())::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2015 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,9 @@ public class LaunchConfigurationListener implements ILaunchConfigurationListener
 
 	@Override
 	public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+		LaunchPlanCache.remove(configuration);
+		LaunchValidationOperation.forget(configuration);
+		FrameworkStorageSnapshots.remove(configuration);
 		final File configDir = LaunchConfigurationHelper.getConfigurationLocation(configuration);
 		if (configDir.exists()) {
 			// rename the config area if it was auto-set by PDE when the launch configuration is renamed
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -136,6 +136,7 @@ public class LaunchListener implements ILaunchListener, IDebugEventSetListener {
 	private void launchTerminated(final ILaunch launch, int returnValue) throws CoreException {
 		if (managedLaunches.contains(launch)) {
 			update(launch, true);
+			FrameworkStorageSnapshots.launchTerminated(launch, returnValue);
 			if (returnValue == IApplication.EXIT_RESTART) {
 				doRestart(launch);
 				return;
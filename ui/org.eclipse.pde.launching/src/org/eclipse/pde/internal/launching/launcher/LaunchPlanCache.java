@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.StateCache;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+
+/**
+ * Remembers the bundles computed for the last launch of each launch
+ * configuration, together with the <code>config.ini</code> written for it.
+ * <p>
+ * A plan is only reused as long as the attributes of the launch configuration
+ * are unchanged and no workspace or target model, resolver state or feature
+ * has changed since the plan was computed. Changes of the models increment a
+ * global counter, and every version of the resolver state gets a new token
+ * from a {@link StateCache}. A plan is outdated if either differs from the
+ * {@link ModelVersion} it was computed for.
+ * </p>
+ */
+public final class LaunchPlanCache {
+
+	private static final Map<String, LaunchPlan> fPlans = new ConcurrentHashMap<>();
+	private static final AtomicLong fModelCount = new AtomicLong();
+	private static final StateCache<Object> fStateToken = new StateCache<>(state -> new Object());
+	private static IPluginModelListener fPluginModelListener;
+	private static IFeatureModelListener fFeatureModelListener;
+
+	private LaunchPlanCache() {
+	}
+
+	/**
+	 * The version of the plug-in and feature models and of the resolver state
+	 * a plan was computed for.
+	 */
+	public record ModelVersion(long modelCount, Object stateToken) {
+	}
+
+	/**
+	 * The bundles and features of a launch and the <code>config.ini</code>
+	 * generated from them.
+	 */
+	public static final class LaunchPlan {
+
+		private final ModelVersion fVersion;
+		private final Map<String, Object> fAttributes;
+		private final Map<IPluginModelBase, String> fModels;
+		private final Map<IFeature, Boolean> fFeatures;
+		private Properties fConfigIni;
+		private File fConfigIniFile;
+		private long fConfigIniStamp;
+
+		LaunchPlan(ModelVersion version, Map<String, Object> attributes, Map<IPluginModelBase, String> models, Map<IFeature, Boolean> features) {
+			fVersion = version;
+			fAttributes = attributes;
+			fModels = new LinkedHashMap<>(models);
+			fFeatures = features != null ? new LinkedHashMap<>(features) : null;
+		}
+
+		/**
+		 * @return a copy of the bundles to launch, mapped to their
+		 *         <code>startLevel:autoStart</code> setting
+		 */
+		public Map<IPluginModelBase, String> getModels() {
+			return new LinkedHashMap<>(fModels);
+		}
+
+		/**
+		 * @return a copy of the features to launch, or <code>null</code> if no
+		 *         profile is generated
+		 */
+		public Map<IFeature, Boolean> getFeatures() {
+			return fFeatures != null ? new LinkedHashMap<>(fFeatures) : null;
+		}
+
+		/**
+		 * Returns the properties of the <code>config.ini</code> written for
+		 * this plan if the file in the given configuration area has not been
+		 * modified or deleted since.
+		 *
+		 * @param configDir
+		 *            the configuration area of the launch
+		 * @return the properties or <code>null</code> if the file needs to be
+		 *         written
+		 */
+		public synchronized Properties getConfigIni(File configDir) {
+			if (fConfigIni == null || !fConfigIniFile.equals(new File(configDir, "config.ini"))) { //$NON-NLS-1$
+				return null;
+			}
+			long stamp = fConfigIniFile.lastModified();
+			return stamp != 0 && stamp == fConfigIniStamp ? fConfigIni : null;
+		}
+
+		/**
+		 * Records the <code>config.ini</code> just written for this plan.
+		 *
+		 * @param configDir
+		 *            the configuration area of the launch
+		 * @param properties
+		 *            the written properties
+		 */
+		public synchronized void setConfigIni(File configDir, Properties properties) {
+			fConfigIniFile = new File(configDir, "config.ini"); //$NON-NLS-1$
+			fConfigIniStamp = fConfigIniFile.lastModified();
+			fConfigIni = properties;
+		}
+	}
+
+	/**
+	 * Returns the plan of the last launch of the given configuration if it is
+	 * still valid.
+	 *
+	 * @param configuration
+	 *            the launch configuration
+	 * @return the plan or <code>null</code> if it has to be computed
+	 * @throws CoreException
+	 *             if the attributes of the configuration cannot be read
+	 */
+	public static LaunchPlan get(ILaunchConfiguration configuration) throws CoreException {
+		startListening();
+		LaunchPlan plan = fPlans.get(configuration.getName());
+		if (plan == null || !plan.fVersion.equals(getModelVersion()) || !plan.fAttributes.equals(configuration.getAttributes())) {
+			return null;
+		}
+		return plan;
+	}
+
+	/**
+	 * Creates and remembers the plan for the given configuration. The version
+	 * has to be obtained by {@link #getModelVersion()} before the bundles were
+	 * computed, so that changes during the computation outdate the plan.
+	 *
+	 * @param configuration
+	 *            the launch configuration
+	 * @param version
+	 *            the model version the plan was computed for
+	 * @param models
+	 *            the bundles to launch
+	 * @param features
+	 *            the features to launch, may be <code>null</code>
+	 * @return the new plan
+	 * @throws CoreException
+	 *             if the attributes of the configuration cannot be read
+	 */
+	public static LaunchPlan put(ILaunchConfiguration configuration, ModelVersion version, Map<IPluginModelBase, String> models, Map<IFeature, Boolean> features) throws CoreException {
+		LaunchPlan plan = new LaunchPlan(version, configuration.getAttributes(), models, features);
+		fPlans.put(configuration.getName(), plan);
+		return plan;
+	}
+
+	/**
+	 * @return the current model version
+	 */
+	public static ModelVersion getModelVersion() {
+		startListening();
+		return new ModelVersion(fModelCount.get(), fStateToken.get(TargetPlatformHelper.getState()));
+	}
+
+	/**
+	 * Forgets the plan of the given configuration.
+	 *
+	 * @param configuration
+	 *            the launch configuration
+	 */
+	public static void remove(ILaunchConfiguration configuration) {
+		fPlans.remove(configuration.getName());
+	}
+
+	private static synchronized void startListening() {
+		if (fPluginModelListener != null) {
+			return;
+		}
+		fPluginModelListener = delta -> invalidate();
+		fFeatureModelListener = delta -> invalidate();
+		PDECore.getDefault().getModelManager().addPluginModelListener(fPluginModelListener);
+		PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fFeatureModelListener);
+	}
+
+	/**
+	 * Removes the model listeners and forgets all plans. Called when the
+	 * launching plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		PDECore core = PDECore.getDefault();
+		if (fPluginModelListener != null && core != null) {
+			core.getModelManager().removePluginModelListener(fPluginModelListener);
+			core.getFeatureModelManager().removeFeatureModelListener(fFeatureModelListener);
+		}
+		fPluginModelListener = null;
+		fFeatureModelListener = null;
+		fPlans.clear();
+	}
+
+	private static void invalidate() {
+		fModelCount.incrementAndGet();
+		fPlans.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2023 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -41,7 +42,26 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 
 public class LaunchValidationOperation implements IWorkspaceRunnable {
 
+	private static final int MAX_VALIDATION_STATES = 8;
+
+	/**
+	 * The last validation of each launch configuration, key is the name of the
+	 * configuration. The state of a validation is updated incrementally by the
+	 * next validation of the same configuration.
+	 */
+	private static final Map<String, BundleValidationOperation> fValidations = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, BundleValidationOperation> eldest) {
+			return size() > MAX_VALIDATION_STATES;
+		}
+	};
+
 	private BundleValidationOperation fOperation;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
+	private boolean fEmpty;
 	public final ILaunchConfiguration fLaunchConfiguration;
 	public final String fLaunchMode;
 	protected final Set<IPluginModelBase> fModels;
@@ -58,8 +78,56 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
-		fOperation = new BundleValidationOperation(fModels, getPlatformProperties());
+		Dictionary<String, String>[] properties = getPlatformProperties();
+		if (fLaunchConfiguration == null) {
+			fOperation = new BundleValidationOperation(fModels, properties);
+			fOperation.run(monitor);
+			storeResults();
+			validateState();
+			return;
+		}
+		// the previous validation is removed while its state is in use, so
+		// an overlapping validation of the same configuration starts with a
+		// new state instead of sharing it
+		String key = fLaunchConfiguration.getName();
+		BundleValidationOperation previous;
+		synchronized (fValidations) {
+			previous = fValidations.remove(key);
+		}
+		fOperation = new BundleValidationOperation(fModels, properties, previous);
 		fOperation.run(monitor);
+		storeResults();
+		validateState();
+		// the state is updated by the next validation, keep the results of this one
+		synchronized (fValidations) {
+			fValidations.put(key, fOperation);
+		}
+	}
+
+	/**
+	 * Performs additional validation with the resolved state, which is
+	 * available through {@link #getState()} while this method runs. Does
+	 * nothing by default.
+	 */
+	protected void validateState() {
+	}
+
+	private void storeResults() {
+		fResolverErrors = fOperation.getResolverErrors();
+		fHasErrors = fOperation.hasErrors();
+		fEmpty = fOperation.getState().getBundles().length == 0;
+	}
+
+	/**
+	 * Discards the validation state kept for the given launch configuration.
+	 *
+	 * @param configuration
+	 *            the launch configuration
+	 */
+	public static void forget(ILaunchConfiguration configuration) {
+		synchronized (fValidations) {
+			fValidations.remove(configuration.getName());
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -130,15 +198,15 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean hasErrors() {
-		return fOperation.hasErrors();
+		return fHasErrors;
 	}
 
 	public Map<Object, Object[]> getInput() {
-		return fOperation.getResolverErrors();
+		return new LinkedHashMap<>(fResolverErrors);
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fEmpty;
 	}
 
 	protected State getState() {
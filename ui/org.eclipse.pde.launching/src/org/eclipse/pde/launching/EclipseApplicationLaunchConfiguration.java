@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,8 +43,12 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
 import org.eclipse.pde.internal.launching.launcher.EclipsePluginValidationOperation;
+import org.eclipse.pde.internal.launching.launcher.FrameworkStorageSnapshots;
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache.LaunchPlan;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache.ModelVersion;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.RequirementHelper;
@@ -90,6 +94,9 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 
 	private Map<IFeature, Boolean> fFeatures;
 
+	// the bundles and config.ini of the current launch, reused by later launches
+	private LaunchPlan fLaunchPlan;
+
 	@Override
 	public String[] getProgramArguments(ILaunchConfiguration configuration) throws CoreException {
 		ArrayList<String> programArgs = new ArrayList<>();
@@ -120,7 +127,7 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 		}
 
 		String productID = LaunchConfigurationHelper.getProductID(configuration);
-		Properties prop = LaunchConfigurationHelper.createConfigIniFile(configuration, productID, fAllBundles, fFeatures, fModels, getConfigDir(configuration));
+		Properties prop = getConfigIni(configuration, productID);
 		boolean showSplash = prop.containsKey("osgi.splashPath") || prop.containsKey("splashLocation"); //$NON-NLS-1$ //$NON-NLS-2$
 		TargetPlatformHelper.checkPluginPropertiesConsistency(fAllBundles, getConfigDir(configuration));
 		programArgs.add("-configuration"); //$NON-NLS-1$
@@ -160,6 +167,23 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 		return programArgs.toArray(new String[programArgs.size()]);
 	}
 
+	private Properties getConfigIni(ILaunchConfiguration configuration, String productID) throws CoreException {
+		File configDir = getConfigDir(configuration);
+		// a config.ini based on a template is always rewritten, as the template may have changed
+		boolean generated = fLaunchPlan != null && configuration.getAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, true);
+		if (generated) {
+			Properties properties = fLaunchPlan.getConfigIni(configDir);
+			if (properties != null) {
+				return properties;
+			}
+		}
+		Properties properties = LaunchConfigurationHelper.createConfigIniFile(configuration, productID, fAllBundles, fFeatures, fModels, configDir);
+		if (generated) {
+			fLaunchPlan.setConfigIni(configDir, properties);
+		}
+		return properties;
+	}
+
 	private String computeShowsplashArgument() {
 		IPath eclipseHome = IPath.fromOSString(TargetPlatform.getLocation());
 		IPath fullPath = eclipseHome.append("eclipse"); //$NON-NLS-1$
@@ -208,16 +232,25 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 	@Override
 	protected void preLaunchCheck(ILaunchConfiguration configuration, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		fWorkspaceLocation = null;
-		if (configuration.getAttribute(IPDELauncherConstants.GENERATE_PROFILE, false)) {
-			fFeatures = new HashMap<>();
+		fLaunchPlan = LaunchPlanCache.get(configuration);
+		if (fLaunchPlan != null) {
+			fFeatures = fLaunchPlan.getFeatures();
+			fModels = fLaunchPlan.getModels();
 		} else {
-			fFeatures = null;
+			ModelVersion version = LaunchPlanCache.getModelVersion();
+			if (configuration.getAttribute(IPDELauncherConstants.GENERATE_PROFILE, false)) {
+				fFeatures = new HashMap<>();
+			} else {
+				fFeatures = null;
+			}
+			fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false, fFeatures);
+			fLaunchPlan = LaunchPlanCache.put(configuration, version, fModels, fFeatures);
 		}
-		fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false, fFeatures);
 		fAllBundles = fModels.keySet().stream().collect(Collectors.groupingBy(m -> m.getPluginBase().getId()));
 
 		validateConfigIni(configuration);
 		super.preLaunchCheck(configuration, launch, monitor);
+		FrameworkStorageSnapshots.prepare(configuration, launch, getConfigDir(configuration), fModels);
 	}
 
 	private void validateConfigIni(ILaunchConfiguration configuration) throws CoreException {
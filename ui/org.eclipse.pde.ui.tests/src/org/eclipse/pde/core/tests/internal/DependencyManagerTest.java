@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -340,6 +340,63 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_composedFromCachedClosures() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a1", "1.0.0"),
+
+				bundle("bundle.a2", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a1," + "bundle.b" + resolution(OPTIONAL))),
+
+				bundle("bundle.a3", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a2")),
+
+				bundle("bundle.b", "1.0.0"));
+
+		BundleDescription bundle1 = bundleDescription("bundle.a1", "1.0.0");
+		BundleDescription bundle2 = bundleDescription("bundle.a2", "1.0.0");
+		BundleDescription bundle3 = bundleDescription("bundle.a3", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		assertThat(findRequirementsClosure(Set.of(bundle2))).isEqualTo(Set.of(bundle2, bundle1));
+		assertThat(findRequirementsClosure(Set.of(bundle3))).isEqualTo(Set.of(bundle3, bundle2, bundle1));
+		assertThat(findRequirementsClosure(Set.of(bundle3, bundleB))).isEqualTo(Set.of(bundle3, bundle2, bundle1, bundleB));
+		assertThat(findRequirementsClosure(Set.of(bundle3), INCLUDE_OPTIONAL_DEPENDENCIES))
+				.isEqualTo(Set.of(bundle3, bundle2, bundle1, bundleB));
+
+		// returned closures can be modified without affecting later results
+		findRequirementsClosure(Set.of(bundle3)).clear();
+		assertThat(findRequirementsClosure(Set.of(bundle3))).isEqualTo(Set.of(bundle3, bundle2, bundle1));
+	}
+
+	@Test
+	public void testFindRequirementsClosure_fragmentAfterCachedHost() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.a.pack")),
+
+				bundle("bundle.fragment", "1.0.0", //
+						entry(FRAGMENT_HOST, "bundle.a"), //
+						entry(IMPORT_PACKAGE, "bundle.b.pack")),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.b.pack")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleFragment = bundleDescription("bundle.fragment", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		// the requirements of the fragment are wired on its host, they must be
+		// followed although the closure of the host is already known
+		assertThat(findRequirementsClosure(Set.of(bundleA))).isEqualTo(Set.of(bundleA));
+		assertThat(findRequirementsClosure(Set.of(bundleFragment)))
+				.isEqualTo(Set.of(bundleFragment, bundleA, bundleB));
+		assertThat(findRequirementsClosure(Set.of(bundleA, bundleFragment)))
+				.isEqualTo(Set.of(bundleFragment, bundleA, bundleB));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2022, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2022, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -89,6 +89,23 @@ public class WorkspaceModelManagerTest {
 		assertExistingModel("plugin.a", "1.0.0", model);
 	}
 
+	@Test
+	public void testGetModel_workspaceStartUpWithMultipleExistingProjects() throws CoreException {
+		// simulate start-up with workspace with existing, open projects
+		List<IProject> existingProjects = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			existingProjects.add(createModelProject("plugin." + i, "1.0." + i));
+		}
+		TestWorkspaceModelManager mm = createWorkspaceModelManager(false);
+		IPluginModelBase[] models = mm.getPluginModels();
+		assertEquals(existingProjects.size(), models.length);
+		for (int i = 0; i < models.length; i++) {
+			// models are in the order of the projects in the workspace
+			assertExistingModel("plugin." + i, "1.0." + i, models[i]);
+			assertSame(models[i], getPluginModel(existingProjects.get(i), mm));
+		}
+	}
+
 	@Test
 	public void testChangeEvents_singleModelCreated() throws CoreException {
 		TestWorkspaceModelManager mm = createWorkspaceModelManager();
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.List;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.core.builders.DependencyCycles;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+public class DependencyCyclesTest {
+
+	private StateObjectFactory factory;
+	private State state;
+
+	@Before
+	public void setup() {
+		factory = BundleHelper.getPlatformAdmin().getFactory();
+		state = factory.createState(true);
+	}
+
+	@Test
+	public void testNoCycle() throws Exception {
+		BundleDescription a = addBundle("a", null);
+		BundleDescription b = addBundle("b", "a");
+		BundleDescription c = addBundle("c", "a,b");
+		state.resolve();
+
+		DependencyCycles cycles = DependencyCycles.analyze(Arrays.asList(state.getBundles()), false);
+		assertThat(cycles.getCyclicComponents()).isEmpty();
+		assertThat(cycles.isInCycle(a)).isFalse();
+		assertThat(cycles.getCycles(b)).isEmpty();
+		assertThat(cycles.getCycles(c)).isEmpty();
+	}
+
+	@Test
+	public void testCycles() throws Exception {
+		BundleDescription a = addBundle("a", "b");
+		BundleDescription b = addBundle("b", "c,d");
+		BundleDescription c = addBundle("c", "a");
+		BundleDescription d = addBundle("d", "b");
+		BundleDescription e = addBundle("e", "a");
+		state.resolve();
+
+		DependencyCycles cycles = DependencyCycles.analyze(Arrays.asList(state.getBundles()), false);
+		assertThat(cycles.getCyclicComponents()).hasSize(1);
+		assertThat(cycles.getCyclicComponents().get(0)).containsExactlyInAnyOrder(a, b, c, d);
+		assertThat(cycles.isInCycle(e)).isFalse();
+
+		List<BundleDescription[]> cyclesOfA = cycles.getCycles(a);
+		assertThat(cyclesOfA).hasSize(1);
+		assertThat(cyclesOfA.get(0)).containsExactly(a, b, c);
+
+		List<BundleDescription[]> cyclesOfB = cycles.getCycles(b);
+		assertThat(cyclesOfB).hasSize(2);
+		assertThat(cyclesOfB.get(0)).containsExactly(b, c, a);
+		assertThat(cyclesOfB.get(1)).containsExactly(b, d);
+	}
+
+	@Test
+	public void testImportPackageCycle() throws Exception {
+		Hashtable<String, String> manifest = manifest("a");
+		manifest.put(Constants.EXPORT_PACKAGE, "a.pack");
+		manifest.put(Constants.IMPORT_PACKAGE, "b.pack");
+		BundleDescription a = addBundle(manifest);
+		manifest = manifest("b");
+		manifest.put(Constants.EXPORT_PACKAGE, "b.pack");
+		manifest.put(Constants.IMPORT_PACKAGE, "a.pack");
+		BundleDescription b = addBundle(manifest);
+		state.resolve();
+
+		assertThat(DependencyCycles.analyze(Arrays.asList(state.getBundles()), false).isInCycle(a)).isFalse();
+		DependencyCycles cycles = DependencyCycles.analyze(Arrays.asList(state.getBundles()), true);
+		assertThat(cycles.getCycles(a)).hasSize(1);
+		assertThat(cycles.getCycles(a).get(0)).containsExactly(a, b);
+	}
+
+	private BundleDescription addBundle(String id, String requiredBundles) throws BundleException {
+		Hashtable<String, String> manifest = manifest(id);
+		if (requiredBundles != null) {
+			manifest.put(Constants.REQUIRE_BUNDLE, requiredBundles);
+		}
+		return addBundle(manifest);
+	}
+
+	private BundleDescription addBundle(Hashtable<String, String> manifest) throws BundleException {
+		long id = state.getBundles().length + 1;
+		BundleDescription desc = factory.createBundleDescription(state, manifest,
+				manifest.get(Constants.BUNDLE_SYMBOLICNAME), id);
+		state.addBundle(desc);
+		return desc;
+	}
+
+	private static Hashtable<String, String> manifest(String id) {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, id);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		return manifest;
+	}
+}
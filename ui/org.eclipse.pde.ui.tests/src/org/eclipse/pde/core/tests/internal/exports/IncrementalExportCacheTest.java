@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.exports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.VersionRange;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.exports.FeatureExportInfo;
+import org.eclipse.pde.internal.core.exports.IncrementalExportCache;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+import org.osgi.framework.Version;
+
+public class IncrementalExportCacheTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	@After
+	public void clearCache() {
+		CoreUtility.deleteContent(PDECore.getDefault().getStateLocation().append(".export_cache").toFile());
+	}
+
+	@Test
+	public void testApply_unchangedPluginIsReused() throws Exception {
+		IPluginModelBase a = createPlugin("incremental.a", "1.0.0");
+
+		File buildTemp = export(a);
+		Path jar = buildTemp.toPath().resolve("incremental.a_1.0.0.qualifier.jar");
+
+		State state = applyCache(a);
+		assertThat(getLocation(state, a)).endsWith(jar.getFileName().toString());
+		assertThat(getLocation(state, a)).doesNotStartWith(buildTemp.getPath());
+	}
+
+	@Test
+	public void testApply_changedPluginIsNotReused() throws Exception {
+		IPluginModelBase a = createPlugin("incremental.a", "1.0.0");
+		export(a);
+
+		IProject project = a.getUnderlyingResource().getProject();
+		project.getFile("added.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		State state = applyCache(a);
+		assertThat(getLocation(state, a)).isEqualTo(a.getBundleDescription().getLocation());
+	}
+
+	@Test
+	public void testApply_changedWorkspaceDependencyIsNotReused() throws Exception {
+		IPluginModelBase b = createPlugin("incremental.b", "1.0.0");
+		IPluginModelBase a = createPlugin("incremental.a", "1.0.0", "incremental.b");
+		export(a);
+
+		IProject project = b.getUnderlyingResource().getProject();
+		project.getFile("added.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		State state = applyCache(a);
+		assertThat(getLocation(state, a)).isEqualTo(a.getBundleDescription().getLocation());
+	}
+
+	@Test
+	public void testApply_changedDependencyVersionIsNotReused() throws Exception {
+		IPluginModelBase b = createPlugin("incremental.b", "1.0.0");
+		IPluginModelBase a = createPlugin("incremental.a", "1.0.0", "incremental.b");
+		export(a);
+
+		IProject project = b.getUnderlyingResource().getProject();
+		IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+		IBundleProjectDescription description = service.getDescription(project);
+		description.setBundleVersion(Version.parseVersion("1.1.0"));
+		description.apply(null);
+		awaitJobs(project);
+		a = PluginRegistry.findModel(a.getUnderlyingResource().getProject());
+
+		State state = applyCache(a);
+		assertThat(getLocation(state, a)).isEqualTo(a.getBundleDescription().getLocation());
+	}
+
+	@Test
+	public void testStore_onlyExportedPluginsAreCached() throws Exception {
+		IPluginModelBase a = createPlugin("incremental.a", "1.0.0");
+		IPluginModelBase b = createPlugin("incremental.b", "1.0.0");
+
+		File buildTemp = folder.newFolder("buildTemp");
+		createJar(buildTemp.toPath().resolve("incremental.b_1.0.0.qualifier.jar"), "incremental.b");
+		exportTo(buildTemp, a);
+
+		State state = applyCache(a, b);
+		assertThat(getLocation(state, a)).isNotEqualTo(a.getBundleDescription().getLocation());
+		assertThat(getLocation(state, b)).isEqualTo(b.getBundleDescription().getLocation());
+	}
+
+	@Test
+	public void testStore_pluginsOfExportedFeaturesAreCached() throws Exception {
+		IPluginModelBase a = createPlugin("incremental.a", "1.0.0");
+		ProjectUtils.createFeatureProject("incremental.feature.included", "1.0.0",
+				f -> ProjectUtils.addIncludedPlugin(f, "incremental.a", "1.0.0"));
+		ProjectUtils.createFeatureProject("incremental.feature", "1.0.0",
+				f -> ProjectUtils.addIncludedFeature(f, "incremental.feature.included", "1.0.0"));
+		IFeatureModel feature = PDECore.getDefault().getFeatureModelManager().findFeatureModel("incremental.feature");
+
+		export(feature);
+
+		State state = applyCache(a);
+		assertThat(getLocation(state, a)).isNotEqualTo(a.getBundleDescription().getLocation());
+	}
+
+	// --- utilities ---
+
+	private static IPluginModelBase createPlugin(String id, String version, String... requiredBundles)
+			throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, version);
+		if (requiredBundles.length > 0) {
+			IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+			IBundleProjectDescription description = service.getDescription(project);
+			IRequiredBundleDescription[] requires = new IRequiredBundleDescription[requiredBundles.length];
+			for (int i = 0; i < requiredBundles.length; i++) {
+				requires[i] = service.newRequiredBundle(requiredBundles[i], (VersionRange) null, false, false);
+			}
+			description.setRequiredBundles(requires);
+			description.apply(null);
+		}
+		awaitJobs(project);
+		return PluginRegistry.findModel(project);
+	}
+
+	private File export(Object... items) throws IOException {
+		File buildTemp = folder.newFolder();
+		exportTo(buildTemp, items);
+		return buildTemp;
+	}
+
+	private static void exportTo(File buildTemp, Object... items) throws IOException {
+		IncrementalExportCache cache = new IncrementalExportCache(createInfo(items));
+		cache.apply(copyState());
+		for (Object item : items) {
+			if (item instanceof IPluginModelBase model) {
+				String id = model.getPluginBase().getId();
+				createJar(buildTemp.toPath().resolve(id + "_1.0.0.qualifier.jar"), id);
+			} else {
+				createJar(buildTemp.toPath().resolve("plugins/incremental.a_1.0.0.qualifier.jar"), "incremental.a");
+			}
+		}
+		cache.store(buildTemp);
+	}
+
+	private static State applyCache(Object... items) {
+		State state = copyState();
+		new IncrementalExportCache(createInfo(items)).apply(state);
+		return state;
+	}
+
+	private static FeatureExportInfo createInfo(Object... items) {
+		FeatureExportInfo info = new FeatureExportInfo();
+		info.items = items;
+		info.qualifier = "qualifier";
+		info.reuseUnchangedBundles = true;
+		return info;
+	}
+
+	private static State copyState() {
+		State state = TargetPlatformHelper.getState();
+		return state.getFactory().createState(state);
+	}
+
+	private static String getLocation(State state, IPluginModelBase model) {
+		BundleDescription bundle = state.getBundle(model.getBundleDescription().getBundleId());
+		return bundle.getLocation();
+	}
+
+	private static void createJar(Path jar, String symbolicName) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0.qualifier");
+		Files.createDirectories(jar.getParent());
+		try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out, manifest)) {
+			// only the manifest is read
+		}
+	}
+
+	private static void awaitJobs(IProject project) throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		TestUtils.waitForJobs(IncrementalExportCacheTest.class.getName(), 100, 10000);
+	}
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Compares the results of plug-in searches, which only visit the plug-ins
+ * selected by the search index, with the matches found by visiting all
+ * plug-ins of the search scope.
+ */
+public class PluginSearchIndexTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	private static final String[] SEARCH_STRINGS = { "org.eclipse.core.runtime", "ORG.Eclipse.Core.Runtime",
+			"org.eclipse.core.*", "Org.Eclipse.*.Runtime", "*.runtime", "*.RUNTIME", "org.eclipse.?de.*",
+			"org.eclipse.core.runtime.*", "ORG.ECLIPSE.CORE.RUNTIME.APP?ICATIONS", "*" };
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@BeforeClass
+	public static void setupTargetPlatform() throws Exception {
+		TargetPlatformUtil.setRunningPlatformAsTarget();
+	}
+
+	@Test
+	public void testPluginSearch() {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(PluginSearchInput.ELEMENT_PLUGIN);
+		input.setSearchLimit(PluginSearchInput.LIMIT_DECLARATIONS);
+		input.setSearchString("org.eclipse.core.runtime");
+		input.setSearchScope(new PluginSearchScope());
+		assertThat(searchAll(input)).as("plug-ins of the running platform").isNotEmpty();
+
+		assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_DECLARATIONS);
+		assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_REFERENCES);
+		assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_ALL);
+	}
+
+	@Test
+	public void testFragmentSearch() {
+		assertSameResults(PluginSearchInput.ELEMENT_FRAGMENT, PluginSearchInput.LIMIT_DECLARATIONS);
+	}
+
+	@Test
+	public void testExtensionPointSearch() {
+		assertSameResults(PluginSearchInput.ELEMENT_EXTENSION_POINT, PluginSearchInput.LIMIT_DECLARATIONS);
+		assertSameResults(PluginSearchInput.ELEMENT_EXTENSION_POINT, PluginSearchInput.LIMIT_REFERENCES);
+		assertSameResults(PluginSearchInput.ELEMENT_EXTENSION_POINT, PluginSearchInput.LIMIT_ALL);
+	}
+
+	@Test
+	public void testPluginReferenceSearch_idsDifferingOnlyInCase() throws Exception {
+		createPlugin("search.upper", "a.Foo");
+		createPlugin("search.lower", "a.foo");
+
+		assertThat(findReferencingPlugins("a.Foo", true)).containsExactly("search.upper");
+		assertThat(findReferencingPlugins("a.foo", true)).containsExactly("search.lower");
+		assertThat(findReferencingPlugins("a.F*", true)).containsExactly("search.upper");
+		assertThat(findReferencingPlugins("a.f??", true)).containsExactly("search.lower");
+		assertThat(findReferencingPlugins("a.foo", false)).containsExactlyInAnyOrder("search.upper",
+				"search.lower");
+		assertThat(findReferencingPlugins("A.F*", false)).containsExactlyInAnyOrder("search.upper",
+				"search.lower");
+	}
+
+	private static void createPlugin(String id, String requiredBundle) throws Exception {
+		ProjectUtils.createPluginProject(id, id, "1.0.0", (description, service) -> description
+				.setRequiredBundles(new IRequiredBundleDescription[] {
+						service.newRequiredBundle(requiredBundle, (VersionRange) null, false, false) }));
+		TestUtils.waitForJobs(PluginSearchIndexTest.class.getName(), 100, 10000);
+	}
+
+	private static List<String> findReferencingPlugins(String searchString, boolean caseSensitive) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(PluginSearchInput.ELEMENT_PLUGIN);
+		input.setSearchLimit(PluginSearchInput.LIMIT_REFERENCES);
+		input.setSearchString(searchString);
+		input.setCaseSensitive(caseSensitive);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_NONE, null));
+
+		List<Object> matches = new ArrayList<>();
+		new PluginSearchOperation(input, matches::add).execute(null);
+		assertThat(matches).as("search for '%s', case sensitive: %s", searchString, caseSensitive)
+				.containsExactlyElementsOf(searchAll(input));
+		return matches.stream().map(match -> ((IPluginImport) match).getPluginBase().getId()).toList();
+	}
+
+	private static void assertSameResults(int element, int limit) {
+		for (String searchString : SEARCH_STRINGS) {
+			for (boolean caseSensitive : new boolean[] { true, false }) {
+				PluginSearchInput input = new PluginSearchInput();
+				input.setSearchElement(element);
+				input.setSearchLimit(limit);
+				input.setSearchString(searchString);
+				input.setCaseSensitive(caseSensitive);
+				input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+						PluginSearchScope.EXTERNAL_SCOPE_ALL, null));
+
+				List<Object> indexed = new ArrayList<>();
+				new PluginSearchOperation(input, indexed::add).execute(null);
+
+				assertThat(indexed).as("search for '%s', case sensitive: %s", searchString, caseSensitive)
+						.containsExactlyElementsOf(searchAll(input));
+			}
+		}
+	}
+
+	private static List<Object> searchAll(PluginSearchInput input) {
+		Pattern pattern = PatternConstructor.createPattern(input.getSearchString(), input.isCaseSensitive());
+		boolean declarations = input.getSearchLimit() != PluginSearchInput.LIMIT_REFERENCES;
+		boolean references = input.getSearchLimit() != PluginSearchInput.LIMIT_DECLARATIONS;
+		List<Object> result = new ArrayList<>();
+		for (IPluginModelBase model : input.getSearchScope().getMatchingModels()) {
+			IPluginBase pluginBase = model.getPluginBase();
+			switch (input.getSearchElement()) {
+				case PluginSearchInput.ELEMENT_PLUGIN :
+					if (declarations && pluginBase instanceof IPlugin && pattern.matcher(pluginBase.getId()).matches()) {
+						result.add(pluginBase);
+					}
+					if (references) {
+						if (pluginBase instanceof IFragment fragment && pattern.matcher(fragment.getPluginId()).matches()) {
+							result.add(pluginBase);
+						}
+						for (IPluginImport pluginImport : pluginBase.getImports()) {
+							if (pattern.matcher(pluginImport.getId()).matches()) {
+								result.add(pluginImport);
+							}
+						}
+					}
+					break;
+				case PluginSearchInput.ELEMENT_FRAGMENT :
+					if (pluginBase instanceof IFragment && pattern.matcher(pluginBase.getId()).matches()) {
+						result.add(pluginBase);
+					}
+					break;
+				case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+					if (declarations) {
+						for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+							if (pattern.matcher(extensionPoint.getFullId()).matches()) {
+								result.add(extensionPoint);
+							}
+						}
+					}
+					if (references) {
+						for (IPluginExtension extension : pluginBase.getExtensions()) {
+							if (pattern.matcher(extension.getPoint()).matches()) {
+								result.add(extension);
+							}
+						}
+					}
+					break;
+			}
+		}
+		if (input.getSearchElement() == PluginSearchInput.ELEMENT_PLUGIN && references) {
+			for (IFeatureModel model : input.getSearchScope().getMatchingFeatureModels()) {
+				for (IFeaturePlugin plugin : model.getFeature().getPlugins()) {
+					if (pattern.matcher(plugin.getId()).matches()) {
+						result.add(plugin);
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -16,6 +16,9 @@ package org.eclipse.pde.ui.tests;
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.DependencyCyclesTest;
+import org.eclipse.pde.core.tests.internal.exports.IncrementalExportCacheTest;
+import org.eclipse.pde.core.tests.internal.search.PluginSearchIndexTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
@@ -65,6 +68,9 @@ import org.junit.runners.Suite.SuiteClasses;
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
 	BundleErrorReporterTest.class, //
+	DependencyCyclesTest.class, //
+	IncrementalExportCacheTest.class, //
+	PluginSearchIndexTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
 })
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Sonatype, Inc. and others.
+ * Copyright (c) 2011, 2026 Sonatype, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,9 +35,11 @@ import java.util.Properties;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.debug.core.sourcelookup.containers.DirectorySourceContainer;
 import org.eclipse.jdt.core.IJavaProject;
@@ -48,6 +50,8 @@ import org.eclipse.pde.core.IBundleClasspathResolver;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.core.ClasspathHelper;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetWeaver;
 import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector;
 import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupQuery;
@@ -337,6 +341,32 @@ public class ClasspathResolverTest {
 		assertEquals(5, devProperties.size()); // assert no more entries
 	}
 
+	@Test
+	public void testGetDevProperties_binExcludesChanged_devEntryUpdated() throws Exception {
+
+		mockTPWithBundles(); // empty TP
+
+		IPluginModelBase wsModel = findWorkspaceModel(HOST_BUNDLE_ID, "2.0.0");
+		IProject wsProject = wsModel.getUnderlyingResource().getProject();
+
+		Properties devProperties = createDevEntryProperties(List.of(wsModel));
+		assertEquals("bin", devProperties.getProperty(HOST_BUNDLE_ID));
+
+		IEclipsePreferences pref = new ProjectScope(wsProject).getNode(PDECore.PLUGIN_ID);
+		pref.put(ICoreConstants.SELFHOSTING_BIN_EXCLUDES, wsProject.getFolder("bin").getFullPath().toString());
+		pref.flush();
+		try {
+			devProperties = createDevEntryProperties(List.of(wsModel));
+
+			assertEquals("true", devProperties.getProperty("@ignoredot@"));
+			assertNull(devProperties.getProperty(HOST_BUNDLE_ID));
+			assertEquals(1, devProperties.size()); // assert no more entries
+		} finally {
+			pref.remove(ICoreConstants.SELFHOSTING_BIN_EXCLUDES);
+			pref.flush();
+		}
+	}
+
 	// --- utility methods ---
 
 	private static String setPlatformDevPropertiesURL(String string) throws ReflectiveOperationException {
@@ -400,7 +430,7 @@ public class ClasspathResolverTest {
 
 	private Properties createDevEntryProperties(List<IPluginModelBase> launchedBundles)
 			throws IOException, CoreException {
-		File devPropertiesFile = tempFolder.newFile("dev.properties").getCanonicalFile();
+		File devPropertiesFile = File.createTempFile("dev", ".properties", tempFolder.getRoot()).getCanonicalFile();
 		Map<String, List<IPluginModelBase>> bundlesMap = Map.of(HOST_BUNDLE_ID, launchedBundles);
 		Path devProperties = ClasspathHelper.getDevEntriesProperties(devPropertiesFile.getPath(), bundlesMap);
 		return loadProperties(devProperties);
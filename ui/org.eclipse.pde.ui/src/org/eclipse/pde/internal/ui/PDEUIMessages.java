@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2024 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -473,6 +473,8 @@ public class PDEUIMessages extends NLS {
 	public static String ExportOptionsTab_antReservedMessage;
 	public static String ExportOptionsTab_allowBinaryCycles;
 
+	public static String ExportOptionsTab_reuseUnchangedBundles;
+
 	public static String ExportOptionsTab_use_workspace_classfiles;
 
 	public static String ExtensionsPage_sortAlpha;
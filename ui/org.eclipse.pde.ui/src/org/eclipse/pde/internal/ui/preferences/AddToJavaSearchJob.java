@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,15 +116,15 @@ public class AddToJavaSearchJob extends WorkspaceJob {
 
 		SearchablePluginsManager manager = PDECore.getDefault().getSearchablePluginsManager();
 
-		// If synching with a target, clear the project and check that the
-		// target is resolved
+		// If synching with a target, check that the target is resolved and
+		// replace the searchable plug-ins in one step, so the libraries of the
+		// plug-ins that stay searchable are not indexed again
 		if (fTargetDefinition != null) {
 
-			manager.removeAllFromJavaSearch();
-
 			if (!fTargetDefinition.isResolved()) {
 				IStatus status = fTargetDefinition.resolve(subMon.split(50));
 				if (!status.isOK()) {
+					manager.removeAllFromJavaSearch();
 					return status;
 				}
 				subMon.subTask(""); //$NON-NLS-1$
@@ -133,11 +133,11 @@ public class AddToJavaSearchJob extends WorkspaceJob {
 			}
 
 			if (monitor.isCanceled()) {
+				manager.removeAllFromJavaSearch();
 				return Status.CANCEL_STATUS;
 			}
 
 			TargetBundle[] bundles = fTargetDefinition.getBundles();
-			fAdd = true;
 			List<IPluginModelBase> models = new ArrayList<>(bundles.length);
 			for (TargetBundle bundle : bundles) {
 				IPluginModelBase model = PluginRegistry.findModel(bundle.getBundleInfo().getSymbolicName());
@@ -146,14 +146,8 @@ public class AddToJavaSearchJob extends WorkspaceJob {
 				}
 			}
 			subMon.worked(25);
-			fBundles = models.toArray(new IPluginModelBase[models.size()]);
-		}
-
-		if (subMon.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
-
-		if (fAdd) {
+			manager.replaceAllInJavaSearch(models.toArray(new IPluginModelBase[models.size()]));
+		} else if (fAdd) {
 			manager.addToJavaSearch(fBundles);
 		} else {
 			if (fBundles != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,8 @@ import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.Separator;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPlugin;
 import org.eclipse.pde.core.plugin.IPluginModel;
@@ -31,6 +33,8 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.builders.DependencyCycles;
 import org.eclipse.pde.internal.core.builders.DependencyLoop;
 import org.eclipse.pde.internal.core.builders.DependencyLoopFinder;
 import org.eclipse.pde.internal.ui.IHelpContextIds;
@@ -427,8 +431,7 @@ public class DependenciesView extends PageBookView implements IPreferenceConstan
 		fLoops = NO_LOOPS;
 		if (fInput instanceof IPluginModel pluginModel) {
 			BusyIndicator.showWhile(PDEPlugin.getActiveWorkbenchShell().getDisplay(), () -> {
-				IPlugin plugin = pluginModel.getPlugin();
-				DependencyLoop[] loops = DependencyLoopFinder.findLoops(plugin);
+				DependencyLoop[] loops = findLoops(pluginModel);
 				if (loops.length > 0) {
 					fLoops = loops;
 				}
@@ -438,6 +441,21 @@ public class DependenciesView extends PageBookView implements IPreferenceConstan
 			fShowLoops.setEnabled(fLoops != NO_LOOPS);
 	}
 
+	/**
+	 * Finds the loops of a resolved plug-in in the dependency graph of the
+	 * target platform state, which is analyzed once for all plug-ins. The
+	 * imports of plug-ins that are not resolved are followed one by one.
+	 */
+	private static DependencyLoop[] findLoops(IPluginModel pluginModel) {
+		BundleDescription desc = pluginModel.getBundleDescription();
+		State state = TargetPlatformHelper.getState();
+		if (desc != null && desc.isResolved() && desc.getContainingState() == state) {
+			return DependencyCycles.analyze(state, false).getLoops(desc);
+		}
+		IPlugin plugin = pluginModel.getPlugin();
+		return DependencyLoopFinder.findLoops(plugin);
+	}
+
 	@Override
 	public void saveState(IMemento memento) {
 		super.saveState(memento);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -358,6 +358,10 @@ public abstract class BaseExportWizardPage extends AbstractExportWizardPage {
 		return fOptionsTab.useWorkspaceCompiledClasses();
 	}
 
+	protected boolean reuseUnchangedBundles() {
+		return fOptionsTab.reuseUnchangedBundles();
+	}
+
 	protected boolean doGenerateAntFile() {
 		return fOptionsTab.doGenerateAntFile();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ public class ExportOptionsTab extends AbstractExportTab {
 	private static final String S_QUALIFIER_NAME = "qualifierName"; //$NON-NLS-1$
 	private static final String S_ALLOW_BINARY_CYCLES = "allowBinaryCycles"; //$NON-NLS-1$
 	private static final String S_USE_WORKSPACE_COMPILED_CLASSES = "useWorkspaceCompiledClasses"; //$NON-NLS-1$
+	private static final String S_REUSE_UNCHANGED_BUNDLES = "reuseUnchangedBundles"; //$NON-NLS-1$
 
 	private Button fIncludeSourceButton;
 	private Combo fIncludeSourceCombo;
@@ -53,6 +54,7 @@ public class ExportOptionsTab extends AbstractExportTab {
 	private Text fQualifierText;
 	private Button fAllowBinaryCycles;
 	private Button fUseWSCompiledClasses;
+	private Button fReuseUnchangedBundles;
 
 	public ExportOptionsTab(BaseExportWizardPage page) {
 		super(page);
@@ -71,6 +73,7 @@ public class ExportOptionsTab extends AbstractExportTab {
 		addAntSection(container);
 		addAllowBinaryCyclesSection(container);
 		addUseWorkspaceCompiledClassesSection(container);
+		addReuseUnchangedBundlesSection(container);
 
 		return container;
 	}
@@ -107,6 +110,11 @@ public class ExportOptionsTab extends AbstractExportTab {
 		fUseWSCompiledClasses.setText(PDEUIMessages.ExportOptionsTab_use_workspace_classfiles);
 	}
 
+	protected void addReuseUnchangedBundlesSection(Composite comp) {
+		fReuseUnchangedBundles = new Button(comp, SWT.CHECK);
+		fReuseUnchangedBundles.setText(PDEUIMessages.ExportOptionsTab_reuseUnchangedBundles);
+	}
+
 	protected String getJarButtonText() {
 		return PDEUIMessages.BaseExportWizardPage_packageJARs;
 	}
@@ -172,6 +180,7 @@ public class ExportOptionsTab extends AbstractExportTab {
 		fQualifierText.setEnabled(fQualifierButton.getSelection());
 		fAllowBinaryCycles.setSelection(getInitialAllowBinaryCyclesSelection(settings));
 		fUseWSCompiledClasses.setSelection(getInitialUseWorkspaceCompiledClassesSelection(settings));
+		fReuseUnchangedBundles.setSelection(settings.getBoolean(S_REUSE_UNCHANGED_BUNDLES));
 		hookListeners();
 	}
 
@@ -185,6 +194,7 @@ public class ExportOptionsTab extends AbstractExportTab {
 		settings.put(S_QUALIFIER_NAME, fQualifierText.getText());
 		settings.put(S_ALLOW_BINARY_CYCLES, fAllowBinaryCycles.getSelection());
 		settings.put(S_USE_WORKSPACE_COMPILED_CLASSES, fUseWSCompiledClasses.getSelection());
+		settings.put(S_REUSE_UNCHANGED_BUNDLES, fReuseUnchangedBundles.getSelection());
 		saveCombo(settings, S_ANT_FILENAME, fAntCombo);
 	}
 
@@ -260,6 +270,10 @@ public class ExportOptionsTab extends AbstractExportTab {
 		return fUseWSCompiledClasses.getSelection();
 	}
 
+	protected boolean reuseUnchangedBundles() {
+		return fReuseUnchangedBundles.getSelection();
+	}
+
 	protected boolean useJARFormat() {
 		return fJarButton.getSelection();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,7 @@ public class FeatureExportWizard extends AntGeneratingExportWizard {
 		info.exportSourceBundle = fPage.doExportSourceBundles();
 		info.allowBinaryCycles = fPage.allowBinaryCycles();
 		info.useWorkspaceCompiledClasses = fPage.useWorkspaceCompiledClasses();
+		info.reuseUnchangedBundles = fPage.reuseUnchangedBundles();
 		info.destinationDirectory = fPage.getDestination();
 		info.zipFileName = fPage.getFileName();
 		if (fPage2 != null && ((FeatureExportWizardPage) fPage).doMultiPlatform())
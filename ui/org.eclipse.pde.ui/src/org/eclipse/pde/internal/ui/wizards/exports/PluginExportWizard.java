@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,7 @@ public class PluginExportWizard extends AntGeneratingExportWizard {
 		info.exportSourceBundle = fPage.doExportSourceBundles();
 		info.allowBinaryCycles = fPage.allowBinaryCycles();
 		info.useWorkspaceCompiledClasses = fPage.useWorkspaceCompiledClasses();
+		info.reuseUnchangedBundles = fPage.reuseUnchangedBundles();
 		info.destinationDirectory = fPage.getDestination();
 		info.zipFileName = fPage.getFileName();
 		info.items = fPage.getSelectedItems();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -80,6 +80,7 @@ public class ProductExportWizard extends BaseExportWizard {
 		info.exportSource = fPage.doExportSource();
 		info.exportSourceBundle = fPage.doExportSourceBundles();
 		info.allowBinaryCycles = fPage.doBinaryCycles();
+		info.reuseUnchangedBundles = fPage.doReuseUnchangedBundles();
 		info.exportMetadata = fPage.doExportMetadata();
 		info.destinationDirectory = fPage.getDestination();
 		info.zipFileName = fPage.getFileName();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,7 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 	private static final String S_EXPORT_SOURCE = "exportSource"; //$NON-NLS-1$
 	private static final String S_EXPORT_SOURCE_FORMAT = "exportSourceFormat"; //$NON-NLS-1$
 	private static final String S_ALLOW_BINARY_CYCLES = "allowBinaryCycles"; //$NON-NLS-1$
+	private static final String S_REUSE_UNCHANGED_BUNDLES = "reuseUnchangedBundles"; //$NON-NLS-1$
 	private static final String S_MULTI_PLATFORM = "multiplatform"; //$NON-NLS-1$
 	private static final String S_EXPORT_METADATA = "p2metadata"; //$NON-NLS-1$
 
@@ -51,6 +52,7 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 	private Button fMultiPlatform;
 	private Button fExportMetadata;
 	private Button fAllowBinaryCycles;
+	private Button fReuseUnchangedBundles;
 	private boolean fPageInitialized = false;
 
 	public ProductExportWizardPage(IStructuredSelection selection) {
@@ -143,6 +145,9 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 
 		fAllowBinaryCycles = new Button(group, SWT.CHECK);
 		fAllowBinaryCycles.setText(PDEUIMessages.ExportOptionsTab_allowBinaryCycles);
+
+		fReuseUnchangedBundles = new Button(group, SWT.CHECK);
+		fReuseUnchangedBundles.setText(PDEUIMessages.ExportOptionsTab_reuseUnchangedBundles);
 	}
 
 	protected void initialize() {
@@ -166,6 +171,8 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 		selected = settings.get(S_ALLOW_BINARY_CYCLES);
 		fAllowBinaryCycles.setSelection(selected == null ? true : Boolean.TRUE.toString().equals(selected));
 
+		fReuseUnchangedBundles.setSelection(settings.getBoolean(S_REUSE_UNCHANGED_BUNDLES));
+
 		if (fMultiPlatform != null)
 			fMultiPlatform.setSelection(settings.getBoolean(S_MULTI_PLATFORM));
 
@@ -212,6 +219,7 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 		settings.put(S_EXPORT_SOURCE_FORMAT, fExportSourceCombo.getItem(fExportSourceCombo.getSelectionIndex()));
 		settings.put(S_EXPORT_METADATA, doExportMetadata());
 		settings.put(S_ALLOW_BINARY_CYCLES, doBinaryCycles());
+		settings.put(S_REUSE_UNCHANGED_BUNDLES, doReuseUnchangedBundles());
 
 		if (fMultiPlatform != null)
 			settings.put(S_MULTI_PLATFORM, fMultiPlatform.getSelection());
@@ -237,6 +245,10 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 		return fAllowBinaryCycles.getSelection();
 	}
 
+	protected boolean doReuseUnchangedBundles() {
+		return fReuseUnchangedBundles.getSelection();
+	}
+
 	/**
 	 * @return whether to generate p2 metadata on export
 	 */